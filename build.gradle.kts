@@ -6,6 +6,7 @@ plugins {
 	id("io.spring.dependency-management") version "1.1.7"
 	id("checkstyle")
 	id("com.diffplug.spotless") version "6.23.0"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "io.rafaalberto"
@@ -35,7 +36,9 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-kafka")
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
-    runtimeOnly("org.postgresql:postgresql")
+    implementation("org.postgresql:postgresql")
+    implementation("io.micrometer:micrometer-java21")
+    implementation("com.github.ben-manes.caffeine:caffeine")
 	developmentOnly("org.springframework.boot:spring-boot-devtools")
 	testImplementation("org.springframework.boot:spring-boot-starter-webmvc-test")
     testImplementation("org.testcontainers:junit-jupiter:$testcontainersVersion")
@@ -69,6 +72,12 @@ tasks.withType<Checkstyle>().configureEach {
 	}
 }
 
+jmh {
+	jmhVersion = "1.37"
+	resultFormat = "JSON"
+	profilers = listOf("gc")
+}
+
 tasks.named("checkstyleMain") {
 	mustRunAfter("spotlessCheck")
 }
@@ -90,6 +99,7 @@ tasks.withType<Test>().configureEach {
 tasks.test {
     exclude("**/integration/**")
     exclude("**/acceptance/**")
+    exclude("**/load/**")
     exclude("**/*IntegrationTest.java")
     exclude("**/*AcceptanceTest.java")
 }
@@ -120,6 +130,21 @@ tasks.register<Test>("acceptanceTest") {
     shouldRunAfter(tasks.named("integrationTest"))
 }
 
+tasks.register<Test>("loadTest") {
+    description = "Runs load tests"
+    group = "verification"
+
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+
+    include("**/load/**")
+    // TransactionStreamIngestLoadTest uploads several times this much; buffering would OOM
+    maxHeapSize = "512m"
+    testLogging {
+        showStandardStreams = true
+    }
+}
+
 tasks.named("check") {
 	dependsOn("spotlessCheck")
 	dependsOn(tasks.named("checkstyleMain"), tasks.named("checkstyleTest"))
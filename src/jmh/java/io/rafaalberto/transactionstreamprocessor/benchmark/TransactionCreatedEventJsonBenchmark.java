@@ -0,0 +1,85 @@
+package io.rafaalberto.transactionstreamprocessor.benchmark;
+
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionCreatedEvent;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Currency;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionType;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.serde.TransactionEventDeserializer;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JacksonJsonDeserializer;
+import org.springframework.kafka.support.serializer.JacksonJsonSerializer;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TransactionCreatedEventJsonBenchmark {
+
+  private static final String TOPIC = "transactions.created";
+
+  @Param({"reflective", "streaming"})
+  private String parser;
+
+  private Deserializer<Object> deserializer;
+  private byte[] payload;
+
+  @Setup
+  public void setup() {
+    var config =
+        Map.<String, Object>of(
+            "spring.json.add.type.headers",
+            false,
+            "spring.json.trusted.packages",
+            "io.rafaalberto.transactionstreamprocessor.application.events",
+            "spring.json.value.default.type",
+            TransactionCreatedEvent.class.getName());
+    deserializer =
+        "streaming".equals(parser)
+            ? new TransactionEventDeserializer()
+            : new JacksonJsonDeserializer<>();
+    deserializer.configure(config, false);
+    try (var serializer = new JacksonJsonSerializer<TransactionCreatedEvent>()) {
+      serializer.configure(config, false);
+      payload =
+          serializer.serialize(
+              TOPIC,
+              new TransactionCreatedEvent(
+                  UUID.randomUUID(),
+                  new BigDecimal("1234.56"),
+                  Currency.BRL,
+                  UUID.randomUUID(),
+                  TransactionType.CREDIT,
+                  Instant.parse("2025-03-23T11:00:00.123456Z"),
+                  Instant.parse("2025-03-23T11:00:01.654321Z"),
+                  "account-service::account-123"));
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    deserializer.close();
+  }
+
+  @Benchmark
+  public Object deserialize() {
+    return deserializer.deserialize(TOPIC, payload);
+  }
+}
@@ -0,0 +1,12 @@
+package io.rafaalberto.transactionstreamprocessor.application.cache;
+
+import java.util.Collection;
+
+public interface ExternalReferenceFilter {
+
+  boolean mightContain(String externalReference);
+
+  void addAll(Collection<String> externalReferences);
+
+  void recordFalsePositives(int count);
+}
@@ -0,0 +1,11 @@
+package io.rafaalberto.transactionstreamprocessor.application.cache;
+
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionID;
+import java.util.Collection;
+
+public interface ProcessedTransactionCache {
+
+  boolean contains(TransactionID id);
+
+  void addAll(Collection<TransactionID> ids);
+}
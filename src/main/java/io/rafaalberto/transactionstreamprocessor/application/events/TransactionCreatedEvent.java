@@ -1,6 +1,7 @@
 package io.rafaalberto.transactionstreamprocessor.application.events;
 
 import io.rafaalberto.transactionstreamprocessor.domain.transaction.Currency;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Transaction;
 import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionType;
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -14,4 +15,16 @@ public record TransactionCreatedEvent(
     TransactionType type,
     Instant occurredAt,
     Instant createdAt,
-    String externalReference) {}
+    String externalReference) {
+  public static TransactionCreatedEvent from(final Transaction transaction) {
+    return new TransactionCreatedEvent(
+        transaction.id().value(),
+        transaction.money().amount(),
+        transaction.money().currency(),
+        transaction.accountId().value(),
+        transaction.type(),
+        transaction.occurredAt(),
+        transaction.createdAt(),
+        transaction.externalReference());
+  }
+}
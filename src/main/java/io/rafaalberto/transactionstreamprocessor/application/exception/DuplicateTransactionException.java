@@ -1,3 +0,0 @@
-package io.rafaalberto.transactionstreamprocessor.application.exception;
-
-public class DuplicateTransactionException extends RuntimeException {}
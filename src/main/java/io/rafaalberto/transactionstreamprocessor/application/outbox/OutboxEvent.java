@@ -1,3 +1,3 @@
 package io.rafaalberto.transactionstreamprocessor.application.outbox;
 
-public record OutboxEvent(String topic, Object payload) {}
+public record OutboxEvent(String topic, String key, Object payload) {}
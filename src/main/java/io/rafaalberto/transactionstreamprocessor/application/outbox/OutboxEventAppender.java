@@ -1,5 +1,11 @@
 package io.rafaalberto.transactionstreamprocessor.application.outbox;
 
+import java.util.List;
+
 public interface OutboxEventAppender {
   void append(OutboxEvent event);
+
+  default void appendAll(final List<OutboxEvent> events) {
+    events.forEach(this::append);
+  }
 }
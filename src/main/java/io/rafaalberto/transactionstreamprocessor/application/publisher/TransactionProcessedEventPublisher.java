@@ -1,7 +1,10 @@
 package io.rafaalberto.transactionstreamprocessor.application.publisher;
 
 import io.rafaalberto.transactionstreamprocessor.application.events.TransactionProcessedEvent;
+import java.util.List;
 
 public interface TransactionProcessedEventPublisher {
   void publish(TransactionProcessedEvent event);
+
+  void publishAll(List<TransactionProcessedEvent> events);
 }
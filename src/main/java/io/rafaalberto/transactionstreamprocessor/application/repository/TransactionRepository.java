@@ -2,12 +2,27 @@ package io.rafaalberto.transactionstreamprocessor.application.repository;
 
 import io.rafaalberto.transactionstreamprocessor.domain.transaction.Transaction;
 import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionID;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface TransactionRepository {
-  Transaction save(Transaction transaction);
+  Optional<Transaction> insertIfAbsent(Transaction transaction);
 
   Optional<Transaction> findById(TransactionID id);
 
   Optional<Transaction> findByExternalReference(String externalReference);
+
+  List<Transaction> findAllByExternalReference(Collection<String> externalReferences);
+
+  List<Transaction> insertAllIfAbsent(List<Transaction> transactions);
+
+  boolean existsById(TransactionID id);
+
+  Optional<Transaction> markAsProcessedIfCreated(TransactionID id);
+
+  List<Transaction> findAllById(Collection<TransactionID> ids);
+
+  Set<TransactionID> markAsProcessed(Collection<TransactionID> ids);
 }
@@ -0,0 +1,145 @@
+package io.rafaalberto.transactionstreamprocessor.application.usecases;
+
+import io.rafaalberto.transactionstreamprocessor.application.cache.ExternalReferenceFilter;
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionCreatedEvent;
+import io.rafaalberto.transactionstreamprocessor.application.outbox.OutboxEvent;
+import io.rafaalberto.transactionstreamprocessor.application.outbox.OutboxEventAppender;
+import io.rafaalberto.transactionstreamprocessor.application.repository.TransactionRepository;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.AccountID;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Money;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Transaction;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.exception.InvalidTransactionException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public final class CreateTransactionBatchUseCase {
+
+  private final TransactionRepository transactionRepository;
+  private final OutboxEventAppender outboxEventAppender;
+  private final ExternalReferenceFilter externalReferenceFilter;
+
+  public CreateTransactionBatchUseCase(
+      final TransactionRepository transactionRepository,
+      final OutboxEventAppender outboxEventAppender,
+      final ExternalReferenceFilter externalReferenceFilter) {
+    this.transactionRepository = transactionRepository;
+    this.outboxEventAppender = outboxEventAppender;
+    this.externalReferenceFilter = externalReferenceFilter;
+  }
+
+  public List<CreateTransactionResult> execute(final List<CreateTransactionCommand> commands) {
+    if (commands.isEmpty()) {
+      return List.of();
+    }
+    var known = findKnown(commands);
+
+    var results = new ArrayList<CreateTransactionResult>(commands.size());
+    var created = new ArrayList<Transaction>();
+    // a reference repeated within the request is inserted once, by its first valid item
+    var creators = new HashMap<String, Integer>();
+    var repeats = new ArrayList<Integer>();
+    for (var command : commands) {
+      var existing = known.get(command.externalReference());
+      if (existing != null) {
+        results.add(CreateTransactionResult.alreadyExists(existing));
+        continue;
+      }
+      try {
+        var transaction = createTransaction(command);
+        if (creators.putIfAbsent(transaction.externalReference(), results.size()) != null) {
+          repeats.add(results.size());
+        } else {
+          created.add(transaction);
+        }
+        results.add(CreateTransactionResult.created(transaction));
+      } catch (InvalidTransactionException ex) {
+        results.add(CreateTransactionResult.rejected(command.externalReference(), ex.getMessage()));
+      }
+    }
+
+    if (created.isEmpty()) {
+      return results;
+    }
+    externalReferenceFilter.addAll(created.stream().map(Transaction::externalReference).toList());
+    var inserted = transactionRepository.insertAllIfAbsent(created);
+    if (inserted.size() < created.size()) {
+      resolveConflicts(results, creators, inserted);
+    }
+    // answered once their creator's row is settled: the inserted row or the one stored before it
+    for (int repeat : repeats) {
+      var creator = results.get(creators.get(results.get(repeat).externalReference()));
+      results.set(repeat, CreateTransactionResult.alreadyExists(creator.transaction()));
+    }
+    if (!inserted.isEmpty()) {
+      outboxEventAppender.appendAll(inserted.stream().map(this::outboxEvent).toList());
+    }
+    return results;
+  }
+
+  // Only references the filter cannot rule out are looked up. A reference it misses (stored by
+  // another instance since the last refresh, or by a concurrent request) is skipped by the insert
+  // and reported as existing by resolveConflicts.
+  private Map<String, Transaction> findKnown(final List<CreateTransactionCommand> commands) {
+    var candidates =
+        commands.stream()
+            .map(CreateTransactionCommand::externalReference)
+            .distinct()
+            .filter(externalReferenceFilter::mightContain)
+            .toList();
+    if (candidates.isEmpty()) {
+      return Map.of();
+    }
+    var known =
+        transactionRepository.findAllByExternalReference(candidates).stream()
+            .collect(
+                Collectors.toMap(
+                    Transaction::externalReference, Function.identity(), (a, b) -> a));
+    externalReferenceFilter.recordFalsePositives(candidates.size() - known.size());
+    return known;
+  }
+
+  // Only the creating items are resolved here; their repeats are answered from them afterwards.
+  private void resolveConflicts(
+      final List<CreateTransactionResult> results,
+      final Map<String, Integer> creators,
+      final List<Transaction> inserted) {
+    var insertedReferences =
+        inserted.stream().map(Transaction::externalReference).collect(Collectors.toSet());
+    var conflicted =
+        creators.keySet().stream()
+            .filter(reference -> !insertedReferences.contains(reference))
+            .toList();
+    var stored =
+        transactionRepository.findAllByExternalReference(conflicted).stream()
+            .collect(
+                Collectors.toMap(
+                    Transaction::externalReference, Function.identity(), (a, b) -> a));
+    for (var reference : conflicted) {
+      var existing = stored.get(reference);
+      if (existing == null) {
+        throw new IllegalStateException("Duplicate reported but transaction not found");
+      }
+      results.set(creators.get(reference), CreateTransactionResult.alreadyExists(existing));
+    }
+  }
+
+  private Transaction createTransaction(final CreateTransactionCommand command) {
+    return Transaction.create(
+        new Money(command.amount(), command.currency()),
+        command.type(),
+        new AccountID(command.accountId()),
+        command.occurredAt(),
+        command.externalReference());
+  }
+
+  private OutboxEvent outboxEvent(final Transaction transaction) {
+    return new OutboxEvent(
+        "transactions.created",
+        transaction.accountId().value().toString(),
+        TransactionCreatedEvent.from(transaction));
+  }
+}
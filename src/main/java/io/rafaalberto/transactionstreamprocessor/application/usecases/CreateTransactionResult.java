@@ -0,0 +1,28 @@
+package io.rafaalberto.transactionstreamprocessor.application.usecases;
+
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Transaction;
+
+public record CreateTransactionResult(
+    String externalReference, Outcome outcome, Transaction transaction, String error) {
+
+  public enum Outcome {
+    CREATED,
+    ALREADY_EXISTS,
+    REJECTED
+  }
+
+  public static CreateTransactionResult created(final Transaction transaction) {
+    return new CreateTransactionResult(
+        transaction.externalReference(), Outcome.CREATED, transaction, null);
+  }
+
+  public static CreateTransactionResult alreadyExists(final Transaction transaction) {
+    return new CreateTransactionResult(
+        transaction.externalReference(), Outcome.ALREADY_EXISTS, transaction, null);
+  }
+
+  public static CreateTransactionResult rejected(
+      final String externalReference, final String error) {
+    return new CreateTransactionResult(externalReference, Outcome.REJECTED, null, error);
+  }
+}
@@ -1,5 +1,6 @@
 package io.rafaalberto.transactionstreamprocessor.application.usecases;
 
+import io.rafaalberto.transactionstreamprocessor.application.cache.ExternalReferenceFilter;
 import io.rafaalberto.transactionstreamprocessor.application.events.TransactionCreatedEvent;
 import io.rafaalberto.transactionstreamprocessor.application.outbox.OutboxEvent;
 import io.rafaalberto.transactionstreamprocessor.application.outbox.OutboxEventAppender;
@@ -7,52 +8,50 @@ import io.rafaalberto.transactionstreamprocessor.application.repository.Transact
 import io.rafaalberto.transactionstreamprocessor.domain.transaction.AccountID;
 import io.rafaalberto.transactionstreamprocessor.domain.transaction.Money;
 import io.rafaalberto.transactionstreamprocessor.domain.transaction.Transaction;
+import java.util.List;
 
 public final class CreateTransactionUseCase {
 
   private final TransactionRepository transactionRepository;
   private final OutboxEventAppender outboxEventAppender;
+  private final ExternalReferenceFilter externalReferenceFilter;
 
   public CreateTransactionUseCase(
       final TransactionRepository transactionRepository,
-      final OutboxEventAppender outboxEventAppender) {
+      final OutboxEventAppender outboxEventAppender,
+      final ExternalReferenceFilter externalReferenceFilter) {
     this.transactionRepository = transactionRepository;
     this.outboxEventAppender = outboxEventAppender;
+    this.externalReferenceFilter = externalReferenceFilter;
   }
 
   public Transaction execute(final CreateTransactionCommand command) {
-    var existingTransaction =
-        transactionRepository.findByExternalReference(command.externalReference());
-    if (existingTransaction.isPresent()) {
-      return existingTransaction.get();
+    externalReferenceFilter.addAll(List.of(command.externalReference()));
+    var inserted = transactionRepository.insertIfAbsent(createTransaction(command));
+    if (inserted.isEmpty()) {
+      return transactionRepository
+          .findByExternalReference(command.externalReference())
+          .orElseThrow(
+              () -> new IllegalStateException("Duplicate reported but transaction not found"));
     }
-    var transaction = createTransaction(command);
-    appendOutboxEvent(transaction);
-    return transaction;
+    appendOutboxEvent(inserted.get());
+    return inserted.get();
   }
 
   private Transaction createTransaction(final CreateTransactionCommand command) {
-    var transaction =
-        Transaction.create(
-            new Money(command.amount(), command.currency()),
-            command.type(),
-            new AccountID(command.accountId()),
-            command.occurredAt(),
-            command.externalReference());
-    return transactionRepository.save(transaction);
+    return Transaction.create(
+        new Money(command.amount(), command.currency()),
+        command.type(),
+        new AccountID(command.accountId()),
+        command.occurredAt(),
+        command.externalReference());
   }
 
   private void appendOutboxEvent(final Transaction transaction) {
-    var transactionEvent =
-        new TransactionCreatedEvent(
-            transaction.id().value(),
-            transaction.money().amount(),
-            transaction.money().currency(),
-            transaction.accountId().value(),
-            transaction.type(),
-            transaction.occurredAt(),
-            transaction.createdAt(),
-            transaction.externalReference());
-    outboxEventAppender.append(new OutboxEvent("transactions.created", transactionEvent));
+    outboxEventAppender.append(
+        new OutboxEvent(
+            "transactions.created",
+            transaction.accountId().value().toString(),
+            TransactionCreatedEvent.from(transaction)));
   }
 }
@@ -0,0 +1,55 @@
+package io.rafaalberto.transactionstreamprocessor.application.usecases;
+
+import io.rafaalberto.transactionstreamprocessor.application.cache.ProcessedTransactionCache;
+import io.rafaalberto.transactionstreamprocessor.application.repository.TransactionRepository;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Transaction;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionID;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionStatus;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.exception.TransactionNotFoundException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class ProcessTransactionBatchUseCase {
+
+  private final TransactionRepository transactionRepository;
+  private final ProcessedTransactionCache processedTransactionCache;
+
+  public ProcessTransactionBatchUseCase(
+      final TransactionRepository transactionRepository,
+      final ProcessedTransactionCache processedTransactionCache) {
+    this.transactionRepository = transactionRepository;
+    this.processedTransactionCache = processedTransactionCache;
+  }
+
+  public List<Transaction> execute(final List<TransactionID> transactionIDs) {
+    var requested = new LinkedHashSet<TransactionID>();
+    transactionIDs.stream()
+        .filter(transactionID -> !processedTransactionCache.contains(transactionID))
+        .forEach(requested::add);
+    if (requested.isEmpty()) {
+      return List.of();
+    }
+    var found =
+        transactionRepository.findAllById(requested).stream()
+            .collect(Collectors.toMap(Transaction::id, Function.identity()));
+    for (var transactionID : requested) {
+      if (!found.containsKey(transactionID)) {
+        throw new TransactionNotFoundException(transactionID);
+      }
+    }
+    var pending =
+        requested.stream()
+            .map(found::get)
+            .filter(transaction -> transaction.status() == TransactionStatus.CREATED)
+            .toList();
+    var processedIds =
+        transactionRepository.markAsProcessed(pending.stream().map(Transaction::id).toList());
+    processedTransactionCache.addAll(requested);
+    return pending.stream()
+        .filter(transaction -> processedIds.contains(transaction.id()))
+        .map(Transaction::process)
+        .toList();
+  }
+}
@@ -1,30 +1,34 @@
 package io.rafaalberto.transactionstreamprocessor.application.usecases;
 
+import io.rafaalberto.transactionstreamprocessor.application.cache.ProcessedTransactionCache;
 import io.rafaalberto.transactionstreamprocessor.application.repository.TransactionRepository;
 import io.rafaalberto.transactionstreamprocessor.domain.transaction.Transaction;
 import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionID;
-import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionStatus;
 import io.rafaalberto.transactionstreamprocessor.domain.transaction.exception.TransactionNotFoundException;
+import java.util.List;
 import java.util.Optional;
 
 public class ProcessTransactionUseCase {
 
   private final TransactionRepository transactionRepository;
+  private final ProcessedTransactionCache processedTransactionCache;
 
-  public ProcessTransactionUseCase(final TransactionRepository transactionRepository) {
+  public ProcessTransactionUseCase(
+      final TransactionRepository transactionRepository,
+      final ProcessedTransactionCache processedTransactionCache) {
     this.transactionRepository = transactionRepository;
+    this.processedTransactionCache = processedTransactionCache;
   }
 
   public Optional<Transaction> execute(final TransactionID transactionID) {
-    var transaction =
-        transactionRepository
-            .findById(transactionID)
-            .orElseThrow(() -> new TransactionNotFoundException(transactionID));
-    if (transaction.status() == TransactionStatus.PROCESSED) {
+    if (processedTransactionCache.contains(transactionID)) {
       return Optional.empty();
     }
-    var processed = transaction.process();
-    transactionRepository.save(processed);
-    return Optional.of(processed);
+    var processed = transactionRepository.markAsProcessedIfCreated(transactionID);
+    if (processed.isEmpty() && !transactionRepository.existsById(transactionID)) {
+      throw new TransactionNotFoundException(transactionID);
+    }
+    processedTransactionCache.addAll(List.of(transactionID));
+    return processed;
   }
 }
@@ -4,7 +4,14 @@ import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionI
 
 public class TransactionNotFoundException extends RuntimeException {
 
+  private final TransactionID transactionID;
+
   public TransactionNotFoundException(final TransactionID transactionID) {
     super("Transaction not found for ID: " + transactionID.value());
+    this.transactionID = transactionID;
+  }
+
+  public TransactionID transactionID() {
+    return transactionID;
   }
 }
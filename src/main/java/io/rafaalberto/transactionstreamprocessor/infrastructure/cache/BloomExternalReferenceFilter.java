@@ -0,0 +1,191 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.rafaalberto.transactionstreamprocessor.application.cache.ExternalReferenceFilter;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class BloomExternalReferenceFilter implements ExternalReferenceFilter, SmartLifecycle {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BloomExternalReferenceFilter.class);
+
+  private static final String SCAN_SQL =
+      "SELECT external_reference, created_at FROM transactions WHERE created_at >= ?";
+
+  private final ScalableBloomFilter filter;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final boolean enabled;
+  private final long refreshIntervalMs;
+  private final long refreshOverlapMs;
+  private final Counter maybeExisting;
+  private final Counter definitelyNew;
+  private final Counter falsePositives;
+
+  private volatile boolean running;
+  private volatile boolean ready;
+  private volatile Instant watermark = Instant.EPOCH;
+  private Thread refreshThread;
+
+  public BloomExternalReferenceFilter(
+      final DataSource dataSource,
+      final PlatformTransactionManager transactionManager,
+      final MeterRegistry meterRegistry,
+      @Value("${transactions.reference-filter.enabled:true}") final boolean enabled,
+      @Value("${transactions.reference-filter.expected-insertions:1000000}")
+          final long expectedInsertions,
+      @Value("${transactions.reference-filter.false-positive-rate:0.01}")
+          final double falsePositiveRate,
+      @Value("${transactions.reference-filter.fetch-size:10000}") final int fetchSize,
+      @Value("${transactions.reference-filter.refresh-interval-ms:30000}")
+          final long refreshIntervalMs,
+      @Value("${transactions.reference-filter.refresh-overlap-ms:60000}")
+          final long refreshOverlapMs) {
+    this.filter = new ScalableBloomFilter(expectedInsertions, falsePositiveRate);
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.jdbcTemplate.setFetchSize(fetchSize);
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.enabled = enabled;
+    this.refreshIntervalMs = refreshIntervalMs;
+    this.refreshOverlapMs = refreshOverlapMs;
+    this.maybeExisting = checks(meterRegistry, "maybe_existing");
+    this.definitelyNew = checks(meterRegistry, "definitely_new");
+    this.falsePositives =
+        Counter.builder("transactions.reference-filter.false-positives")
+            .description("References the filter reported as maybe existing that were not stored")
+            .register(meterRegistry);
+    Gauge.builder("transactions.reference-filter.memory", filter, ScalableBloomFilter::sizeInBytes)
+        .description("Memory held by the filter bit arrays")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+    Gauge.builder("transactions.reference-filter.entries", filter, ScalableBloomFilter::count)
+        .description("External references added to the filter")
+        .register(meterRegistry);
+    Gauge.builder(
+            "transactions.reference-filter.expected-fpp",
+            filter,
+            ScalableBloomFilter::expectedFalsePositiveRate)
+        .description("False positive rate estimated from the filter fill")
+        .register(meterRegistry);
+    Gauge.builder("transactions.reference-filter.ready", this, state -> state.ready ? 1 : 0)
+        .description("1 once the filter has been seeded and is answering lookups")
+        .register(meterRegistry);
+  }
+
+  // Until the seeding scan has finished every reference might exist, so callers keep looking up.
+  @Override
+  public boolean mightContain(final String externalReference) {
+    if (!ready) {
+      return true;
+    }
+    var maybe = filter.mightContain(externalReference);
+    (maybe ? maybeExisting : definitelyNew).increment();
+    return maybe;
+  }
+
+  // Added before the insert commits: a rollback only leaves a false positive behind.
+  @Override
+  public void addAll(final Collection<String> externalReferences) {
+    if (enabled) {
+      externalReferences.forEach(filter::put);
+    }
+  }
+
+  @Override
+  public void recordFalsePositives(final int count) {
+    if (ready && count > 0) {
+      falsePositives.increment(count);
+    }
+  }
+
+  // Seeds from a full streaming scan, then only reads rows created since the last scan, so other
+  // instances' inserts are picked up without a rebuild. Lookups are never blocked meanwhile.
+  public void refresh() {
+    var from = ready ? watermark.minusMillis(refreshOverlapMs) : Instant.EPOCH;
+    var scanned = new AtomicLong();
+    transactionTemplate.executeWithoutResult(
+        status ->
+            jdbcTemplate.query(
+                SCAN_SQL,
+                resultSet -> {
+                  filter.put(resultSet.getString(1));
+                  var createdAt = resultSet.getTimestamp(2).toInstant();
+                  if (createdAt.isAfter(watermark)) {
+                    watermark = createdAt;
+                  }
+                  scanned.incrementAndGet();
+                },
+                Timestamp.from(from)));
+    if (!ready) {
+      ready = true;
+      LOGGER.info(
+          "External reference filter seeded with {} references ({} bytes)",
+          scanned.get(),
+          filter.sizeInBytes());
+    }
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  @Override
+  public void start() {
+    running = true;
+    if (enabled) {
+      refreshThread =
+          Thread.ofPlatform().name("reference-filter-refresh").daemon().start(this::run);
+    }
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    if (refreshThread != null) {
+      refreshThread.interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void run() {
+    while (running) {
+      try {
+        refresh();
+      } catch (RuntimeException ex) {
+        LOGGER.warn("External reference filter refresh failed", ex);
+      }
+      try {
+        Thread.sleep(refreshIntervalMs);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  private static Counter checks(final MeterRegistry meterRegistry, final String result) {
+    return Counter.builder("transactions.reference-filter.checks")
+        .description("External reference pre-checks answered by the filter")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
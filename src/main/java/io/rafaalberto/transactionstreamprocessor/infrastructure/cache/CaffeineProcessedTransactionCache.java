@@ -0,0 +1,63 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.rafaalberto.transactionstreamprocessor.application.cache.ProcessedTransactionCache;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionID;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class CaffeineProcessedTransactionCache implements ProcessedTransactionCache {
+
+  private final Cache<TransactionID, Boolean> cache;
+
+  public CaffeineProcessedTransactionCache(
+      final MeterRegistry meterRegistry,
+      @Value("${processing.dedupe-cache.max-size:100000}") final long maxSize,
+      @Value("${processing.dedupe-cache.ttl-ms:600000}") final long ttlMs) {
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofMillis(ttlMs))
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "processed.transactions");
+  }
+
+  @Override
+  public boolean contains(final TransactionID id) {
+    return cache.getIfPresent(id) != null;
+  }
+
+  @Override
+  public void addAll(final Collection<TransactionID> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      put(ids);
+      return;
+    }
+    // a rolled back status change must not be remembered, or its redelivery would be skipped
+    var committed = List.copyOf(ids);
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            put(committed);
+          }
+        });
+  }
+
+  private void put(final Collection<TransactionID> ids) {
+    ids.forEach(id -> cache.put(id, Boolean.TRUE));
+  }
+}
@@ -0,0 +1,165 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Bloom filter that adds a larger, tighter layer whenever the current one reaches capacity, so the
+// false positive rate stays below the target however many values are added (Almeida et al.).
+public final class ScalableBloomFilter {
+
+  private static final int GROWTH_FACTOR = 2;
+  private static final double TIGHTENING_RATIO = 0.5;
+  private static final double LN2 = Math.log(2);
+  private static final long SECOND_HASH_SEED = 0x9E3779B97F4A7C15L;
+
+  private volatile List<Layer> layers;
+
+  public ScalableBloomFilter(final long initialCapacity, final double falsePositiveRate) {
+    if (initialCapacity <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("Invalid bloom filter capacity or false positive rate");
+    }
+    // the layer rates form a geometric series that sums to falsePositiveRate
+    this.layers =
+        List.of(new Layer(initialCapacity, falsePositiveRate * (1 - TIGHTENING_RATIO)));
+  }
+
+  public boolean mightContain(final String value) {
+    var h1 = hash(value);
+    var h2 = mix(h1 ^ SECOND_HASH_SEED) | 1;
+    return contains(layers, h1, h2);
+  }
+
+  public void put(final String value) {
+    var h1 = hash(value);
+    var h2 = mix(h1 ^ SECOND_HASH_SEED) | 1;
+    var current = layers;
+    if (contains(current, h1, h2)) {
+      return;
+    }
+    writableLayer(current).put(h1, h2);
+  }
+
+  public long count() {
+    return layers.stream().mapToLong(Layer::count).sum();
+  }
+
+  public int layerCount() {
+    return layers.size();
+  }
+
+  public long sizeInBytes() {
+    return layers.stream().mapToLong(Layer::sizeInBytes).sum();
+  }
+
+  // estimated from each layer's fill, not measured; callers that can verify report the real rate
+  public double expectedFalsePositiveRate() {
+    var none = 1.0;
+    for (var layer : layers) {
+      none *= 1 - layer.expectedFalsePositiveRate();
+    }
+    return 1 - none;
+  }
+
+  private static boolean contains(final List<Layer> layers, final long h1, final long h2) {
+    for (var layer : layers) {
+      if (layer.mightContain(h1, h2)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Layer writableLayer(final List<Layer> current) {
+    var last = current.getLast();
+    if (last.count() < last.capacity()) {
+      return last;
+    }
+    synchronized (this) {
+      last = layers.getLast();
+      if (last.count() >= last.capacity()) {
+        var grown = new ArrayList<>(layers);
+        last =
+            new Layer(
+                last.capacity() * GROWTH_FACTOR, last.falsePositiveRate() * TIGHTENING_RATIO);
+        grown.add(last);
+        layers = List.copyOf(grown);
+      }
+      return last;
+    }
+  }
+
+  // FNV-1a over the UTF-16 chars, finished with the murmur3 mixer
+  private static long hash(final String value) {
+    var hash = 0xcbf29ce484222325L;
+    for (var index = 0; index < value.length(); index++) {
+      hash ^= value.charAt(index);
+      hash *= 0x100000001b3L;
+    }
+    return mix(hash);
+  }
+
+  private static long mix(final long value) {
+    var mixed = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+    mixed = (mixed ^ (mixed >>> 33)) * 0xc4ceb9fe1a85ec53L;
+    return mixed ^ (mixed >>> 33);
+  }
+
+  private static final class Layer {
+
+    private final long capacity;
+    private final double falsePositiveRate;
+    private final long bits;
+    private final int hashes;
+    private final AtomicLongArray words;
+    private final AtomicLong count = new AtomicLong();
+
+    Layer(final long capacity, final double falsePositiveRate) {
+      this.capacity = capacity;
+      this.falsePositiveRate = falsePositiveRate;
+      var wordCount = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (LN2 * LN2) / 64);
+      this.words = new AtomicLongArray(Math.toIntExact(Math.max(1, wordCount)));
+      this.bits = words.length() * 64L;
+      this.hashes = Math.max(1, (int) Math.round((double) bits / capacity * LN2));
+    }
+
+    boolean mightContain(final long h1, final long h2) {
+      for (var index = 0; index < hashes; index++) {
+        var bit = Math.floorMod(h1 + index * h2, bits);
+        if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    void put(final long h1, final long h2) {
+      for (var index = 0; index < hashes; index++) {
+        var bit = Math.floorMod(h1 + index * h2, bits);
+        words.getAndAccumulate((int) (bit >>> 6), 1L << bit, (word, mask) -> word | mask);
+      }
+      count.incrementAndGet();
+    }
+
+    long capacity() {
+      return capacity;
+    }
+
+    double falsePositiveRate() {
+      return falsePositiveRate;
+    }
+
+    long count() {
+      return count.get();
+    }
+
+    long sizeInBytes() {
+      return words.length() * 8L;
+    }
+
+    double expectedFalsePositiveRate() {
+      return Math.pow(1 - Math.exp(-hashes * (double) count.get() / bits), hashes);
+    }
+  }
+}
@@ -4,68 +4,182 @@ import io.rafaalberto.transactionstreamprocessor.application.events.TransactionC
 import io.rafaalberto.transactionstreamprocessor.domain.transaction.exception.InvalidTransactionException;
 import io.rafaalberto.transactionstreamprocessor.domain.transaction.exception.TransactionNotFoundException;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.kafka.KafkaException;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerPartitionPausingBackOffManager;
+import org.springframework.kafka.listener.ContainerPausingBackOffHandler;
 import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.KafkaConsumerBackoffManager;
+import org.springframework.kafka.listener.ListenerContainerPauseService;
+import org.springframework.kafka.listener.SeekUtils;
 import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.util.backoff.FixedBackOff;
 
 @Configuration
 @EnableKafka
 public class KafkaConsumerConfig {
 
+  public static final String ORIGINAL_TOPIC_HEADER = "x-original-topic";
+  public static final String EXCEPTION_MESSAGE_HEADER = "x-exception-message";
+  public static final String EXCEPTION_CLASS_HEADER = "x-exception-class";
+
+  private static final List<Class<? extends Exception>> NOT_RETRYABLE_EXCEPTIONS =
+      List.of(
+          IllegalArgumentException.class,
+          DeserializationException.class,
+          InvalidTransactionException.class,
+          TransactionNotFoundException.class);
+
   @Bean
-  public DefaultErrorHandler errorHandler(final KafkaTemplate<String, Object> kafkaTemplate) {
-
-    DeadLetterPublishingRecoverer recoverer =
-        new DeadLetterPublishingRecoverer(
-            kafkaTemplate,
-            (consumerRecord, exception) -> {
-              String message = exception.getMessage() != null ? exception.getMessage() : "null";
-              consumerRecord
-                  .headers()
-                  .add("x-original-topic", consumerRecord.topic().getBytes(StandardCharsets.UTF_8));
-              consumerRecord
-                  .headers()
-                  .add("x-exception-message", message.getBytes(StandardCharsets.UTF_8));
-              consumerRecord
-                  .headers()
-                  .add(
-                      "x-exception-class",
-                      exception.getClass().getName().getBytes(StandardCharsets.UTF_8));
-              return new TopicPartition(KafkaTopics.TRANSACTIONS_DLQ, consumerRecord.partition());
-            });
-
-    FixedBackOff backOff = new FixedBackOff(2000L, 3L);
-
-    var handler = new DefaultErrorHandler(recoverer, backOff);
-
-    handler.addNotRetryableExceptions(
-        IllegalArgumentException.class,
-        DeserializationException.class,
-        InvalidTransactionException.class,
-        TransactionNotFoundException.class);
+  public DeadLetterPublishingRecoverer retryTierRecoverer(
+      final KafkaTemplate<String, Object> kafkaTemplate, final KafkaRetryTiers retryTiers) {
+    return new DeadLetterPublishingRecoverer(
+        kafkaTemplate,
+        (consumerRecord, exception) -> {
+          String message = exception.getMessage() != null ? exception.getMessage() : "null";
+          var headers = consumerRecord.headers();
+          if (headers.lastHeader(ORIGINAL_TOPIC_HEADER) == null) {
+            headers.add(
+                ORIGINAL_TOPIC_HEADER, consumerRecord.topic().getBytes(StandardCharsets.UTF_8));
+          }
+          replaceHeader(headers, EXCEPTION_MESSAGE_HEADER, message);
+          replaceHeader(headers, EXCEPTION_CLASS_HEADER, exception.getClass().getName());
 
-    return handler;
+          var nextTopic =
+              isRetryable(exception)
+                  ? retryTiers.nextTopic(consumerRecord.topic())
+                  : Optional.<String>empty();
+          if (nextTopic.isEmpty()) {
+            return new TopicPartition(KafkaTopics.TRANSACTIONS_DLQ, consumerRecord.partition());
+          }
+          var dueAt = retryTiers.dueAt(nextTopic.get(), Instant.now()).toEpochMilli();
+          replaceHeader(headers, KafkaRetryTiers.RETRY_DUE_AT_HEADER, String.valueOf(dueAt));
+          return new TopicPartition(nextTopic.get(), -1);
+        }) {
+      @Override
+      public void accept(
+          final ConsumerRecord<?, ?> consumerRecord,
+          final Consumer<?, ?> consumer,
+          final Exception exception) {
+        // a retry record that is not due yet: rethrowing keeps its offset uncommitted, so the
+        // paused partition re-reads it once the back-off manager resumes it
+        if (SeekUtils.isBackoffException(exception) && exception instanceof RuntimeException ex) {
+          throw ex;
+        }
+        super.accept(consumerRecord, consumer, exception);
+      }
+    };
+  }
+
+  @Bean
+  public DefaultErrorHandler errorHandler(final DeadLetterPublishingRecoverer retryTierRecoverer) {
+    return tierErrorHandler(retryTierRecoverer);
+  }
+
+  // Pauses only the partition whose head record is not due and resumes it on the task scheduler,
+  // so the listener thread never sleeps and keeps polling the other retry partitions.
+  @Bean
+  public KafkaConsumerBackoffManager retryBackoffManager(
+      final KafkaListenerEndpointRegistry registry, final TaskScheduler taskScheduler) {
+    var pauseService = new ListenerContainerPauseService(registry, taskScheduler);
+    return new ContainerPartitionPausingBackOffManager(
+        registry, new ContainerPausingBackOffHandler(pauseService));
   }
 
   @Bean
   public ConcurrentKafkaListenerContainerFactory<String, TransactionCreatedEvent>
       kafkaListenerContainerFactory(
           final ConsumerFactory<String, TransactionCreatedEvent> consumerFactory,
-          final DefaultErrorHandler errorHandler) {
+          final DefaultErrorHandler errorHandler,
+          @Value("${spring.threads.virtual.enabled:false}") final boolean virtualThreads) {
+
+    var factory = new ConcurrentKafkaListenerContainerFactory<String, TransactionCreatedEvent>();
+    factory.setConsumerFactory(consumerFactory);
+    factory.setCommonErrorHandler(errorHandler);
+    factory.setConcurrency(1);
+    if (virtualThreads) {
+      factory
+          .getContainerProperties()
+          .setListenerTaskExecutor(TaskExecutors.virtual("kafka-listener-"));
+    }
+
+    return factory;
+  }
+
+  // Same settings as the main factory, but every not-yet-due record surfaces as a back-off
+  // exception, so its error handler logs at DEBUG instead of ERROR.
+  @Bean
+  public ConcurrentKafkaListenerContainerFactory<String, TransactionCreatedEvent>
+      retryListenerContainerFactory(
+          final ConsumerFactory<String, TransactionCreatedEvent> consumerFactory,
+          final DeadLetterPublishingRecoverer retryTierRecoverer,
+          @Value("${spring.threads.virtual.enabled:false}") final boolean virtualThreads) {
 
+    var errorHandler = tierErrorHandler(retryTierRecoverer);
+    errorHandler.setLogLevel(KafkaException.Level.DEBUG);
     var factory = new ConcurrentKafkaListenerContainerFactory<String, TransactionCreatedEvent>();
     factory.setConsumerFactory(consumerFactory);
     factory.setCommonErrorHandler(errorHandler);
     factory.setConcurrency(1);
+    if (virtualThreads) {
+      factory
+          .getContainerProperties()
+          .setListenerTaskExecutor(TaskExecutors.virtual("kafka-retry-listener-"));
+    }
 
     return factory;
   }
+
+  @Bean
+  AsyncTaskExecutor kafkaWorkerExecutor(
+      @Value("${kafka.consumer.parallel.workers:8}") final int workers,
+      @Value("${spring.threads.virtual.enabled:false}") final boolean virtualThreads) {
+    return TaskExecutors.bounded("kafka-worker-", workers, virtualThreads);
+  }
+
+  @Bean
+  AsyncTaskExecutor dlqReplayExecutor(
+      @Value("${spring.threads.virtual.enabled:false}") final boolean virtualThreads) {
+    return TaskExecutors.bounded("dlq-replay-", 1, virtualThreads);
+  }
+
+  private static DefaultErrorHandler tierErrorHandler(
+      final DeadLetterPublishingRecoverer retryTierRecoverer) {
+    // no in-place retries: failed records move to the retry topics so the partition keeps flowing
+    var handler = new DefaultErrorHandler(retryTierRecoverer, new FixedBackOff(0L, 0L));
+    handler.addNotRetryableExceptions(NOT_RETRYABLE_EXCEPTIONS.toArray(Class[]::new));
+    return handler;
+  }
+
+  private static boolean isRetryable(final Exception exception) {
+    for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+      var current = cause;
+      if (NOT_RETRYABLE_EXCEPTIONS.stream().anyMatch(type -> type.isInstance(current))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static void replaceHeader(final Headers headers, final String key, final String value) {
+    headers.remove(key);
+    headers.add(key, value.getBytes(StandardCharsets.UTF_8));
+  }
 }
@@ -0,0 +1,51 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.config;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class KafkaRetryTiers {
+
+  public static final String RETRY_DUE_AT_HEADER = "x-retry-due-at";
+
+  private static final List<String> TOPICS =
+      List.of(
+          KafkaTopics.TRANSACTIONS_CREATED_RETRY_1S,
+          KafkaTopics.TRANSACTIONS_CREATED_RETRY_10S,
+          KafkaTopics.TRANSACTIONS_CREATED_RETRY_60S);
+
+  private final List<Duration> delays;
+
+  public KafkaRetryTiers(
+      @Value("${kafka.retry.delays-ms:1000,10000,60000}") final long[] delaysMs) {
+    if (delaysMs.length != TOPICS.size()) {
+      throw new IllegalArgumentException(
+          "kafka.retry.delays-ms must define one delay per retry topic: " + TOPICS);
+    }
+    this.delays = Arrays.stream(delaysMs).mapToObj(Duration::ofMillis).toList();
+  }
+
+  public Optional<String> nextTopic(final String topic) {
+    if (KafkaTopics.TRANSACTIONS_CREATED.equals(topic)) {
+      return Optional.of(TOPICS.getFirst());
+    }
+    var index = TOPICS.indexOf(topic);
+    if (index < 0 || index == TOPICS.size() - 1) {
+      return Optional.empty();
+    }
+    return Optional.of(TOPICS.get(index + 1));
+  }
+
+  public Instant dueAt(final String retryTopic, final Instant now) {
+    var index = TOPICS.indexOf(retryTopic);
+    if (index < 0) {
+      throw new IllegalArgumentException("Not a retry topic: " + retryTopic);
+    }
+    return now.plus(delays.get(index));
+  }
+}
@@ -6,5 +6,8 @@ public class KafkaTopics {
 
   public static final String TRANSACTIONS_CREATED = "transactions.created";
   public static final String TRANSACTIONS_PROCESSED = "transactions.processed";
+  public static final String TRANSACTIONS_CREATED_RETRY_1S = "transactions.created.retry-1s";
+  public static final String TRANSACTIONS_CREATED_RETRY_10S = "transactions.created.retry-10s";
+  public static final String TRANSACTIONS_CREATED_RETRY_60S = "transactions.created.retry-60s";
   public static final String TRANSACTIONS_DLQ = "transactions.dlq";
 }
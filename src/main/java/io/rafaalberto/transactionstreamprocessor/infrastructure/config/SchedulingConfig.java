@@ -1,8 +1,29 @@
 package io.rafaalberto.transactionstreamprocessor.infrastructure.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 @EnableScheduling
-public class SchedulingConfig {}
+public class SchedulingConfig {
+
+  @Bean
+  AsyncTaskExecutor outboxRelayExecutor(
+      @Value("${outbox.relay.workers:2}") final int workers,
+      @Value("${spring.threads.virtual.enabled:false}") final boolean virtualThreads) {
+    return TaskExecutors.bounded("outbox-relay-", workers, virtualThreads);
+  }
+
+  @Bean
+  ThreadPoolTaskExecutor outboxAckExecutor() {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setThreadNamePrefix("outbox-ack-");
+    return executor;
+  }
+}
@@ -0,0 +1,32 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.config;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+final class TaskExecutors {
+
+  private TaskExecutors() {}
+
+  static AsyncTaskExecutor bounded(
+      final String threadNamePrefix, final int threads, final boolean virtualThreads) {
+    if (virtualThreads) {
+      // the limit keeps the fan-out within what the connection pool can serve
+      var executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+      executor.setVirtualThreads(true);
+      executor.setConcurrencyLimit(threads);
+      return executor;
+    }
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(threads);
+    executor.setMaxPoolSize(threads);
+    executor.setThreadNamePrefix(threadNamePrefix);
+    return executor;
+  }
+
+  static AsyncTaskExecutor virtual(final String threadNamePrefix) {
+    var executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+    executor.setVirtualThreads(true);
+    return executor;
+  }
+}
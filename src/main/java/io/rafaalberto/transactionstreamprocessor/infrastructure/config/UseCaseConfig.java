@@ -1,15 +1,27 @@
 package io.rafaalberto.transactionstreamprocessor.infrastructure.config;
 
+import io.rafaalberto.transactionstreamprocessor.application.cache.ExternalReferenceFilter;
+import io.rafaalberto.transactionstreamprocessor.application.cache.ProcessedTransactionCache;
 import io.rafaalberto.transactionstreamprocessor.application.outbox.OutboxEventAppender;
 import io.rafaalberto.transactionstreamprocessor.application.repository.TransactionRepository;
+import io.rafaalberto.transactionstreamprocessor.application.usecases.CreateTransactionBatchUseCase;
 import io.rafaalberto.transactionstreamprocessor.application.usecases.CreateTransactionUseCase;
 import io.rafaalberto.transactionstreamprocessor.application.usecases.GetTransactionByIdUseCase;
+import io.rafaalberto.transactionstreamprocessor.application.usecases.ProcessTransactionBatchUseCase;
 import io.rafaalberto.transactionstreamprocessor.application.usecases.ProcessTransactionUseCase;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.http.controller.CreateTransactionBatchController;
 import io.rafaalberto.transactionstreamprocessor.infrastructure.http.controller.CreateTransactionController;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.http.controller.CreateTransactionStreamController;
 import io.rafaalberto.transactionstreamprocessor.infrastructure.http.controller.GetTransactionByIdController;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.service.CreateTransactionBatchService;
 import io.rafaalberto.transactionstreamprocessor.infrastructure.service.CreateTransactionService;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.service.TransactionGroupCommitter;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.ObjectMapper;
 
 @Configuration
 public class UseCaseConfig {
@@ -17,8 +29,19 @@ public class UseCaseConfig {
   @Bean
   CreateTransactionUseCase createTransactionUseCase(
       final TransactionRepository transactionRepository,
-      final OutboxEventAppender outboxEventAppender) {
-    return new CreateTransactionUseCase(transactionRepository, outboxEventAppender);
+      final OutboxEventAppender outboxEventAppender,
+      final ExternalReferenceFilter externalReferenceFilter) {
+    return new CreateTransactionUseCase(
+        transactionRepository, outboxEventAppender, externalReferenceFilter);
+  }
+
+  @Bean
+  CreateTransactionBatchUseCase createTransactionBatchUseCase(
+      final TransactionRepository transactionRepository,
+      final OutboxEventAppender outboxEventAppender,
+      final ExternalReferenceFilter externalReferenceFilter) {
+    return new CreateTransactionBatchUseCase(
+        transactionRepository, outboxEventAppender, externalReferenceFilter);
   }
 
   @Bean
@@ -29,8 +52,27 @@ public class UseCaseConfig {
 
   @Bean
   CreateTransactionController createTransactionController(
-      final CreateTransactionService createTransactionService) {
-    return new CreateTransactionController(createTransactionService);
+      final CreateTransactionService createTransactionService,
+      final ObjectProvider<TransactionGroupCommitter> transactionGroupCommitter) {
+    return new CreateTransactionController(
+        createTransactionService, transactionGroupCommitter.getIfAvailable());
+  }
+
+  @Bean
+  CreateTransactionBatchController createTransactionBatchController(
+      final CreateTransactionBatchService createTransactionBatchService) {
+    return new CreateTransactionBatchController(createTransactionBatchService);
+  }
+
+  @Bean
+  CreateTransactionStreamController createTransactionStreamController(
+      final CreateTransactionBatchService createTransactionBatchService,
+      final ObjectMapper objectMapper,
+      final Validator validator,
+      @Value("${ingest.stream.chunk-size:500}") final int chunkSize,
+      @Value("${ingest.stream.max-line-length:8192}") final int maxLineLength) {
+    return new CreateTransactionStreamController(
+        createTransactionBatchService, objectMapper, validator, chunkSize, maxLineLength);
   }
 
   @Bean
@@ -41,7 +83,15 @@ public class UseCaseConfig {
 
   @Bean
   ProcessTransactionUseCase processTransactionUseCase(
-      final TransactionRepository transactionRepository) {
-    return new ProcessTransactionUseCase(transactionRepository);
+      final TransactionRepository transactionRepository,
+      final ProcessedTransactionCache processedTransactionCache) {
+    return new ProcessTransactionUseCase(transactionRepository, processedTransactionCache);
+  }
+
+  @Bean
+  ProcessTransactionBatchUseCase processTransactionBatchUseCase(
+      final TransactionRepository transactionRepository,
+      final ProcessedTransactionCache processedTransactionCache) {
+    return new ProcessTransactionBatchUseCase(transactionRepository, processedTransactionCache);
   }
 }
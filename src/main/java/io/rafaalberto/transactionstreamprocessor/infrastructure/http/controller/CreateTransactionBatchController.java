@@ -0,0 +1,51 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.http.controller;
+
+import io.rafaalberto.transactionstreamprocessor.application.usecases.CreateTransactionCommand;
+import io.rafaalberto.transactionstreamprocessor.application.usecases.CreateTransactionResult;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.http.request.CreateTransactionBatchRequest;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.http.response.CreateTransactionBatchItemResponse;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.http.response.CreateTransactionBatchResponse;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.service.CreateTransactionBatchService;
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class CreateTransactionBatchController {
+
+  private final CreateTransactionBatchService createTransactionBatchService;
+
+  public CreateTransactionBatchController(
+      final CreateTransactionBatchService createTransactionBatchService) {
+    this.createTransactionBatchService = createTransactionBatchService;
+  }
+
+  public CreateTransactionBatchResponse create(final CreateTransactionBatchRequest request) {
+    var commands =
+        request.transactions().stream()
+            .map(
+                transaction ->
+                    new CreateTransactionCommand(
+                        transaction.amount(),
+                        transaction.currency(),
+                        transaction.type(),
+                        transaction.accountId(),
+                        transaction.occurredAt(),
+                        transaction.externalReference()))
+            .toList();
+
+    var results = createTransactionBatchService.execute(commands);
+
+    return new CreateTransactionBatchResponse(
+        count(results, CreateTransactionResult.Outcome.CREATED),
+        count(results, CreateTransactionResult.Outcome.ALREADY_EXISTS),
+        count(results, CreateTransactionResult.Outcome.REJECTED),
+        IntStream.range(0, results.size())
+            .mapToObj(index -> CreateTransactionBatchItemResponse.from(index, results.get(index)))
+            .toList());
+  }
+
+  private static int count(
+      final List<CreateTransactionResult> results,
+      final CreateTransactionResult.Outcome outcome) {
+    return (int) results.stream().filter(result -> result.outcome() == outcome).count();
+  }
+}
@@ -4,13 +4,23 @@ import io.rafaalberto.transactionstreamprocessor.application.usecases.CreateTran
 import io.rafaalberto.transactionstreamprocessor.infrastructure.http.request.CreateTransactionRequest;
 import io.rafaalberto.transactionstreamprocessor.infrastructure.http.response.TransactionResponse;
 import io.rafaalberto.transactionstreamprocessor.infrastructure.service.CreateTransactionService;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.service.TransactionGroupCommitter;
 
 public class CreateTransactionController {
 
   private final CreateTransactionService createTransactionService;
+  private final TransactionGroupCommitter transactionGroupCommitter;
 
   public CreateTransactionController(final CreateTransactionService createTransactionService) {
+    this(createTransactionService, null);
+  }
+
+  // transactionGroupCommitter is null unless transactions.group-commit.enabled=true
+  public CreateTransactionController(
+      final CreateTransactionService createTransactionService,
+      final TransactionGroupCommitter transactionGroupCommitter) {
     this.createTransactionService = createTransactionService;
+    this.transactionGroupCommitter = transactionGroupCommitter;
   }
 
   public TransactionResponse create(final CreateTransactionRequest request) {
@@ -23,7 +33,10 @@ public class CreateTransactionController {
             request.occurredAt(),
             request.externalReference());
 
-    var useCase = createTransactionService.execute(command);
+    var useCase =
+        transactionGroupCommitter != null
+            ? transactionGroupCommitter.submit(command)
+            : createTransactionService.execute(command);
 
     return TransactionResponse.from(useCase);
   }
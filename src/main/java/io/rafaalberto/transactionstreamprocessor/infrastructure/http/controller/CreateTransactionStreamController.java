@@ -0,0 +1,170 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.http.controller;
+
+import io.rafaalberto.transactionstreamprocessor.application.usecases.CreateTransactionCommand;
+import io.rafaalberto.transactionstreamprocessor.application.usecases.CreateTransactionResult;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.http.request.CreateTransactionRequest;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.http.response.CreateTransactionStreamItemResponse;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.service.CreateTransactionBatchService;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+public class CreateTransactionStreamController {
+
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(CreateTransactionStreamController.class);
+
+  private static final String CHUNK_FAILED_ERROR = "chunk could not be committed, resend this line";
+
+  private final CreateTransactionBatchService createTransactionBatchService;
+  private final ObjectMapper objectMapper;
+  private final Validator validator;
+  private final int chunkSize;
+  private final int maxLineLength;
+
+  public CreateTransactionStreamController(
+      final CreateTransactionBatchService createTransactionBatchService,
+      final ObjectMapper objectMapper,
+      final Validator validator,
+      final int chunkSize,
+      final int maxLineLength) {
+    this.createTransactionBatchService = createTransactionBatchService;
+    this.objectMapper = objectMapper;
+    this.validator = validator;
+    this.chunkSize = chunkSize;
+    this.maxLineLength = maxLineLength;
+  }
+
+  // Reads one request per line and commits every chunkSize lines; only the current chunk is held
+  // in memory, and its results are flushed before the next chunk is read.
+  public void create(final InputStream body, final OutputStream output) throws IOException {
+    var reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    var buffer = new StringBuilder();
+    var chunk = new ArrayList<Line>(chunkSize);
+    long lineNumber = 0;
+    String text;
+    while ((text = readLine(reader, buffer)) != null) {
+      lineNumber++;
+      if (text.isBlank()) {
+        continue;
+      }
+      chunk.add(parse(lineNumber, text));
+      if (chunk.size() >= chunkSize) {
+        flush(chunk, output);
+      }
+    }
+    flush(chunk, output);
+  }
+
+  private Line parse(final long lineNumber, final String text) {
+    if (text.length() > maxLineLength) {
+      return Line.rejected(lineNumber, null, "line exceeds " + maxLineLength + " characters");
+    }
+    CreateTransactionRequest request;
+    try {
+      request = objectMapper.readValue(text, CreateTransactionRequest.class);
+    } catch (JacksonException ex) {
+      return Line.rejected(lineNumber, null, "Malformed JSON request");
+    }
+    var violations = validator.validate(request);
+    if (!violations.isEmpty()) {
+      var error =
+          violations.stream()
+              .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+              .sorted()
+              .collect(Collectors.joining(", "));
+      return Line.rejected(lineNumber, request.externalReference(), error);
+    }
+    return new Line(
+        lineNumber,
+        new CreateTransactionCommand(
+            request.amount(),
+            request.currency(),
+            request.type(),
+            request.accountId(),
+            request.occurredAt(),
+            request.externalReference()),
+        null);
+  }
+
+  private void flush(final List<Line> chunk, final OutputStream output) throws IOException {
+    if (chunk.isEmpty()) {
+      return;
+    }
+    var commands = chunk.stream().map(Line::command).filter(command -> command != null).toList();
+    List<CreateTransactionResult> results = commands.isEmpty() ? List.of() : execute(commands);
+
+    var next = 0;
+    for (var line : chunk) {
+      var item =
+          line.command() != null
+              ? CreateTransactionStreamItemResponse.from(line.number(), results.get(next++))
+              : line.rejection();
+      output.write(objectMapper.writeValueAsBytes(item));
+      output.write('\n');
+    }
+    output.flush();
+    chunk.clear();
+  }
+
+  // The 200 and earlier results are already on the wire, so a chunk that fails to commit is
+  // reported line by line; it rolled back as a whole and its lines can simply be resent.
+  private List<CreateTransactionResult> execute(final List<CreateTransactionCommand> commands) {
+    try {
+      return createTransactionBatchService.execute(commands);
+    } catch (RuntimeException ex) {
+      LOGGER.warn("Stream chunk of {} transactions could not be committed", commands.size(), ex);
+      return commands.stream()
+          .map(
+              command ->
+                  CreateTransactionResult.rejected(command.externalReference(), CHUNK_FAILED_ERROR))
+          .toList();
+    }
+  }
+
+  // Like BufferedReader.readLine, but stops buffering one character past maxLineLength so an
+  // unterminated or oversized line cannot grow the heap; the rest of that line is discarded.
+  private String readLine(final BufferedReader reader, final StringBuilder buffer)
+      throws IOException {
+    buffer.setLength(0);
+    var read = reader.read();
+    if (read == -1) {
+      return null;
+    }
+    while (read != -1 && read != '\n') {
+      if (buffer.length() <= maxLineLength) {
+        buffer.append((char) read);
+      }
+      read = reader.read();
+    }
+    var end = buffer.length();
+    if (end > 0 && buffer.charAt(end - 1) == '\r') {
+      buffer.setLength(end - 1);
+    }
+    return buffer.toString();
+  }
+
+  private record Line(
+      long number,
+      CreateTransactionCommand command,
+      CreateTransactionStreamItemResponse rejection) {
+
+    static Line rejected(final long number, final String externalReference, final String error) {
+      return new Line(
+          number,
+          null,
+          CreateTransactionStreamItemResponse.rejected(number, externalReference, error));
+    }
+  }
+}
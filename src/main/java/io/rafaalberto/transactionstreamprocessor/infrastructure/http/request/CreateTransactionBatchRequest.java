@@ -0,0 +1,15 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.http.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record CreateTransactionBatchRequest(
+    @NotEmpty(message = "transactions must not be empty")
+        @Size(max = MAX_TRANSACTIONS, message = "transactions must have at most 1000 items")
+        List<@Valid @NotNull CreateTransactionRequest> transactions) {
+
+  public static final int MAX_TRANSACTIONS = 1000;
+}
@@ -1,13 +1,21 @@
 package io.rafaalberto.transactionstreamprocessor.infrastructure.http.resource;
 
+import io.rafaalberto.transactionstreamprocessor.infrastructure.http.controller.CreateTransactionBatchController;
 import io.rafaalberto.transactionstreamprocessor.infrastructure.http.controller.CreateTransactionController;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.http.controller.CreateTransactionStreamController;
 import io.rafaalberto.transactionstreamprocessor.infrastructure.http.controller.GetTransactionByIdController;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.http.request.CreateTransactionBatchRequest;
 import io.rafaalberto.transactionstreamprocessor.infrastructure.http.request.CreateTransactionRequest;
 import io.rafaalberto.transactionstreamprocessor.infrastructure.http.request.GetTransactionByIdRequest;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.http.response.CreateTransactionBatchResponse;
 import io.rafaalberto.transactionstreamprocessor.infrastructure.http.response.TransactionDetailsResponse;
 import io.rafaalberto.transactionstreamprocessor.infrastructure.http.response.TransactionResponse;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -22,12 +30,18 @@ public class TransactionResource {
 
   private final CreateTransactionController createTransactionController;
   private final GetTransactionByIdController getTransactionByIdController;
+  private final CreateTransactionBatchController createTransactionBatchController;
+  private final CreateTransactionStreamController createTransactionStreamController;
 
   public TransactionResource(
       final CreateTransactionController createTransactionController,
-      final GetTransactionByIdController getTransactionByIdController) {
+      final GetTransactionByIdController getTransactionByIdController,
+      final CreateTransactionBatchController createTransactionBatchController,
+      final CreateTransactionStreamController createTransactionStreamController) {
     this.createTransactionController = createTransactionController;
     this.getTransactionByIdController = getTransactionByIdController;
+    this.createTransactionBatchController = createTransactionBatchController;
+    this.createTransactionStreamController = createTransactionStreamController;
   }
 
   @PostMapping
@@ -37,6 +51,24 @@ public class TransactionResource {
     return ResponseEntity.status(HttpStatus.CREATED).body(response);
   }
 
+  @PostMapping("/batch")
+  public ResponseEntity<CreateTransactionBatchResponse> createBatch(
+      @Valid @RequestBody final CreateTransactionBatchRequest createTransactionBatchRequest) {
+    var response = createTransactionBatchController.create(createTransactionBatchRequest);
+    return ResponseEntity.ok(response);
+  }
+
+  @PostMapping(
+      path = "/stream",
+      consumes = MediaType.APPLICATION_NDJSON_VALUE,
+      produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public void createStream(final InputStream body, final HttpServletResponse response)
+      throws IOException {
+    response.setStatus(HttpStatus.OK.value());
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    createTransactionStreamController.create(body, response.getOutputStream());
+  }
+
   @GetMapping("/{id}")
   public ResponseEntity<TransactionDetailsResponse> findById(@PathVariable final String id) {
     var transactionId = new GetTransactionByIdRequest(id).toTransactionId();
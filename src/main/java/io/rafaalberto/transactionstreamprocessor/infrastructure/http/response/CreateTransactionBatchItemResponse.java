@@ -0,0 +1,21 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.http.response;
+
+import io.rafaalberto.transactionstreamprocessor.application.usecases.CreateTransactionResult;
+
+public record CreateTransactionBatchItemResponse(
+    int index,
+    String externalReference,
+    String outcome,
+    TransactionResponse transaction,
+    String error) {
+
+  public static CreateTransactionBatchItemResponse from(
+      final int index, final CreateTransactionResult result) {
+    return new CreateTransactionBatchItemResponse(
+        index,
+        result.externalReference(),
+        result.outcome().name(),
+        result.transaction() != null ? TransactionResponse.from(result.transaction()) : null,
+        result.error());
+  }
+}
@@ -0,0 +1,9 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.http.response;
+
+import java.util.List;
+
+public record CreateTransactionBatchResponse(
+    int created,
+    int alreadyExisting,
+    int rejected,
+    List<CreateTransactionBatchItemResponse> results) {}
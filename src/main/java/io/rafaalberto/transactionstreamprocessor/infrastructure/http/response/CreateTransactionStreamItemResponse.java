@@ -0,0 +1,31 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.http.response;
+
+import io.rafaalberto.transactionstreamprocessor.application.usecases.CreateTransactionResult;
+
+public record CreateTransactionStreamItemResponse(
+    long line,
+    String externalReference,
+    String outcome,
+    TransactionResponse transaction,
+    String error) {
+
+  public static CreateTransactionStreamItemResponse from(
+      final long line, final CreateTransactionResult result) {
+    return new CreateTransactionStreamItemResponse(
+        line,
+        result.externalReference(),
+        result.outcome().name(),
+        result.transaction() != null ? TransactionResponse.from(result.transaction()) : null,
+        result.error());
+  }
+
+  public static CreateTransactionStreamItemResponse rejected(
+      final long line, final String externalReference, final String error) {
+    return new CreateTransactionStreamItemResponse(
+        line,
+        externalReference,
+        CreateTransactionResult.Outcome.REJECTED.name(),
+        null,
+        error);
+  }
+}
@@ -0,0 +1,141 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.consumer;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(
+    name = "kafka.consumer.backpressure.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class ConsumerBackpressureMonitor {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ConsumerBackpressureMonitor.class);
+
+  private static final String ACQUIRE_TIMER = "hikaricp.connections.acquire";
+
+  private final DataSource dataSource;
+  private final MeterRegistry meterRegistry;
+  private final KafkaListenerEndpointRegistry listenerRegistry;
+  private final int maxPendingConnections;
+  private final double maxAcquireMs;
+  private final double resumeAcquireMs;
+  private final int resumeSamples;
+  private final AtomicBoolean paused = new AtomicBoolean();
+  private final Counter pauses;
+  private final Counter resumes;
+
+  private long lastAcquireCount;
+  private double lastAcquireTotalMs;
+  private int calmSamples;
+
+  public ConsumerBackpressureMonitor(
+      final DataSource dataSource,
+      final MeterRegistry meterRegistry,
+      final KafkaListenerEndpointRegistry listenerRegistry,
+      @Value("${kafka.consumer.backpressure.max-pending-connections:5}")
+          final int maxPendingConnections,
+      @Value("${kafka.consumer.backpressure.max-acquire-ms:100}") final double maxAcquireMs,
+      @Value("${kafka.consumer.backpressure.resume-acquire-ms:20}") final double resumeAcquireMs,
+      @Value("${kafka.consumer.backpressure.resume-samples:3}") final int resumeSamples) {
+    this.dataSource = dataSource;
+    this.meterRegistry = meterRegistry;
+    this.listenerRegistry = listenerRegistry;
+    this.maxPendingConnections = maxPendingConnections;
+    this.maxAcquireMs = maxAcquireMs;
+    this.resumeAcquireMs = resumeAcquireMs;
+    this.resumeSamples = resumeSamples;
+    this.pauses =
+        Counter.builder("kafka.consumer.backpressure.pauses")
+            .description("Times the main listener was paused under database pressure")
+            .register(meterRegistry);
+    this.resumes =
+        Counter.builder("kafka.consumer.backpressure.resumes")
+            .description("Times the main listener was resumed after pressure cleared")
+            .register(meterRegistry);
+    Gauge.builder("kafka.consumer.backpressure.paused", paused, state -> state.get() ? 1 : 0)
+        .description("1 while the main listener is paused for backpressure")
+        .register(meterRegistry);
+  }
+
+  // Only the pool is sampled: a listener hands a whole poll to its workers and waits for it, so a
+  // count of records in flight follows the poll size rather than the database.
+  @Scheduled(fixedDelayString = "${kafka.consumer.backpressure.sample-interval-ms:500}")
+  public void sample() {
+    var pending = pendingConnections();
+    var acquireMs = recentAcquireMs();
+
+    var saturated = pending > maxPendingConnections || acquireMs > maxAcquireMs;
+    if (!paused.get() && saturated) {
+      LOGGER.warn("Pausing main listener: pendingConnections={} acquireMs={}", pending, acquireMs);
+      mainListener().ifPresent(MessageListenerContainer::pause);
+      paused.set(true);
+      pauses.increment();
+    } else if (paused.get()) {
+      var calm = pending == 0 && acquireMs <= resumeAcquireMs;
+      // one quiet instant is not enough: resume after resumeSamples calm samples in a row
+      calmSamples = calm ? calmSamples + 1 : 0;
+      if (calmSamples >= resumeSamples) {
+        LOGGER.info("Resuming main listener: acquireMs={}", acquireMs);
+        mainListener().ifPresent(MessageListenerContainer::resume);
+        paused.set(false);
+        calmSamples = 0;
+        resumes.increment();
+      }
+    }
+  }
+
+  public boolean isPaused() {
+    return paused.get();
+  }
+
+  // The retry tiers are left alone: their partitions are paused and resumed by the back-off
+  // manager, and pausing those containers here would undo or hold up its resumes.
+  private Optional<MessageListenerContainer> mainListener() {
+    return Optional.ofNullable(
+        listenerRegistry.getListenerContainer(TransactionCreatedEventConsumer.LISTENER_ID));
+  }
+
+  private int pendingConnections() {
+    try {
+      if (dataSource.isWrapperFor(HikariDataSource.class)) {
+        var pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        return pool != null ? pool.getThreadsAwaitingConnection() : 0;
+      }
+    } catch (SQLException ex) {
+      LOGGER.debug("Connection pool is not a Hikari pool", ex);
+    }
+    return 0;
+  }
+
+  // mean acquire time of the connections handed out since the previous sample
+  private double recentAcquireMs() {
+    Timer timer = meterRegistry.find(ACQUIRE_TIMER).timer();
+    if (timer == null) {
+      return 0;
+    }
+    var count = timer.count();
+    var totalMs = timer.totalTime(TimeUnit.MILLISECONDS);
+    var acquired = count - lastAcquireCount;
+    var mean = acquired > 0 ? (totalMs - lastAcquireTotalMs) / acquired : 0;
+    lastAcquireCount = count;
+    lastAcquireTotalMs = totalMs;
+    return mean;
+  }
+}
@@ -0,0 +1,56 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.consumer;
+
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionCreatedEvent;
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionProcessedEvent;
+import io.rafaalberto.transactionstreamprocessor.application.publisher.TransactionProcessedEventPublisher;
+import io.rafaalberto.transactionstreamprocessor.application.usecases.ProcessTransactionBatchUseCase;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionID;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.exception.TransactionNotFoundException;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.config.KafkaTopics;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@ConditionalOnProperty(name = "kafka.consumer.mode", havingValue = "batch")
+public class TransactionCreatedEventBatchConsumer {
+
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(TransactionCreatedEventBatchConsumer.class);
+
+  private final ProcessTransactionBatchUseCase processTransactionBatchUseCase;
+  private final TransactionProcessedEventPublisher transactionProcessedPublisher;
+
+  public TransactionCreatedEventBatchConsumer(
+      final ProcessTransactionBatchUseCase processTransactionBatchUseCase,
+      final TransactionProcessedEventPublisher transactionProcessedPublisher) {
+    this.processTransactionBatchUseCase = processTransactionBatchUseCase;
+    this.transactionProcessedPublisher = transactionProcessedPublisher;
+  }
+
+  @Transactional
+  @KafkaListener(
+      id = TransactionCreatedEventConsumer.LISTENER_ID,
+      topics = KafkaTopics.TRANSACTIONS_CREATED,
+      groupId = "transaction-processor",
+      batch = "true")
+  public void consume(final List<TransactionCreatedEvent> events) {
+    LOGGER.info("TransactionCreatedEventBatchConsumer consumed {} events", events.size());
+    var transactionIds =
+        events.stream().map(event -> new TransactionID(event.transactionId())).toList();
+    try {
+      var processed = processTransactionBatchUseCase.execute(transactionIds);
+      transactionProcessedPublisher.publishAll(
+          processed.stream().map(TransactionProcessedEvent::from).toList());
+      LOGGER.info("TransactionProcessedEvents published count={}", processed.size());
+    } catch (TransactionNotFoundException ex) {
+      throw new BatchListenerFailedException(
+          ex.getMessage(), ex, transactionIds.indexOf(ex.transactionID()));
+    }
+  }
+}
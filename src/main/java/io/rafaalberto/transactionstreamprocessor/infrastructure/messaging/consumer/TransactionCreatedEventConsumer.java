@@ -1,45 +1,35 @@
 package io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.consumer;
 
 import io.rafaalberto.transactionstreamprocessor.application.events.TransactionCreatedEvent;
-import io.rafaalberto.transactionstreamprocessor.application.events.TransactionProcessedEvent;
-import io.rafaalberto.transactionstreamprocessor.application.publisher.TransactionProcessedEventPublisher;
-import io.rafaalberto.transactionstreamprocessor.application.usecases.ProcessTransactionUseCase;
-import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionID;
 import io.rafaalberto.transactionstreamprocessor.infrastructure.config.KafkaTopics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
 @Component
+@ConditionalOnProperty(name = "kafka.consumer.mode", havingValue = "record", matchIfMissing = true)
 public class TransactionCreatedEventConsumer {
 
+  // shared by the record, batch and parallel listeners; only one of them runs per mode
+  public static final String LISTENER_ID = "transaction-created";
+
   private static final Logger LOGGER =
       LoggerFactory.getLogger(TransactionCreatedEventConsumer.class);
 
-  private final ProcessTransactionUseCase processTransactionUseCase;
-  private final TransactionProcessedEventPublisher transactionProcessedPublisher;
+  private final TransactionCreatedEventHandler handler;
 
-  public TransactionCreatedEventConsumer(
-      final ProcessTransactionUseCase processTransactionUseCase,
-      final TransactionProcessedEventPublisher transactionProcessedPublisher) {
-    this.processTransactionUseCase = processTransactionUseCase;
-    this.transactionProcessedPublisher = transactionProcessedPublisher;
+  public TransactionCreatedEventConsumer(final TransactionCreatedEventHandler handler) {
+    this.handler = handler;
   }
 
-  @KafkaListener(topics = KafkaTopics.TRANSACTIONS_CREATED, groupId = "transaction-processor")
+  @KafkaListener(
+      id = LISTENER_ID,
+      topics = KafkaTopics.TRANSACTIONS_CREATED,
+      groupId = "transaction-processor")
   public void consume(final TransactionCreatedEvent event) {
     LOGGER.info("TransactionCreatedEventConsumer consumed transactionId={}", event.transactionId());
-    var transactionId = new TransactionID(event.transactionId());
-    processTransactionUseCase
-        .execute(transactionId)
-        .ifPresent(
-            processedTransaction -> {
-              var transactionProcessedEvent = TransactionProcessedEvent.from(processedTransaction);
-              transactionProcessedPublisher.publish(transactionProcessedEvent);
-              LOGGER.info(
-                  "TransactionProcessedEvent published transactionId={}",
-                  processedTransaction.id().value());
-            });
+    handler.handle(event);
   }
 }
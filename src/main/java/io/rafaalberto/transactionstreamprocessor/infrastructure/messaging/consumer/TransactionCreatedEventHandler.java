@@ -0,0 +1,40 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.consumer;
+
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionCreatedEvent;
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionProcessedEvent;
+import io.rafaalberto.transactionstreamprocessor.application.publisher.TransactionProcessedEventPublisher;
+import io.rafaalberto.transactionstreamprocessor.application.usecases.ProcessTransactionUseCase;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TransactionCreatedEventHandler {
+
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(TransactionCreatedEventHandler.class);
+
+  private final ProcessTransactionUseCase processTransactionUseCase;
+  private final TransactionProcessedEventPublisher transactionProcessedPublisher;
+
+  public TransactionCreatedEventHandler(
+      final ProcessTransactionUseCase processTransactionUseCase,
+      final TransactionProcessedEventPublisher transactionProcessedPublisher) {
+    this.processTransactionUseCase = processTransactionUseCase;
+    this.transactionProcessedPublisher = transactionProcessedPublisher;
+  }
+
+  public void handle(final TransactionCreatedEvent event) {
+    processTransactionUseCase
+        .execute(new TransactionID(event.transactionId()))
+        .ifPresent(
+            processedTransaction -> {
+              var transactionProcessedEvent = TransactionProcessedEvent.from(processedTransaction);
+              transactionProcessedPublisher.publish(transactionProcessedEvent);
+              LOGGER.info(
+                  "TransactionProcessedEvent published transactionId={}",
+                  processedTransaction.id().value());
+            });
+  }
+}
@@ -0,0 +1,137 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.consumer;
+
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionCreatedEvent;
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionProcessedEvent;
+import io.rafaalberto.transactionstreamprocessor.application.publisher.TransactionProcessedEventPublisher;
+import io.rafaalberto.transactionstreamprocessor.application.usecases.ProcessTransactionUseCase;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionID;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.config.KafkaTopics;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@ConditionalOnProperty(name = "kafka.consumer.mode", havingValue = "parallel")
+public class TransactionCreatedEventParallelConsumer {
+
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(TransactionCreatedEventParallelConsumer.class);
+
+  private final ProcessTransactionUseCase processTransactionUseCase;
+  private final TransactionProcessedEventPublisher transactionProcessedPublisher;
+  private final Executor workerExecutor;
+  private final TransactionTemplate transactionTemplate;
+
+  public TransactionCreatedEventParallelConsumer(
+      final ProcessTransactionUseCase processTransactionUseCase,
+      final TransactionProcessedEventPublisher transactionProcessedPublisher,
+      @Qualifier("kafkaWorkerExecutor") final Executor workerExecutor,
+      final PlatformTransactionManager transactionManager) {
+    this.processTransactionUseCase = processTransactionUseCase;
+    this.transactionProcessedPublisher = transactionProcessedPublisher;
+    this.workerExecutor = workerExecutor;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @KafkaListener(
+      id = TransactionCreatedEventConsumer.LISTENER_ID,
+      topics = KafkaTopics.TRANSACTIONS_CREATED,
+      groupId = "transaction-processor",
+      batch = "true")
+  public void consume(final List<TransactionCreatedEvent> events) {
+    LOGGER.info("TransactionCreatedEventParallelConsumer consumed {} events", events.size());
+    var lanes =
+        groupByAccount(events).stream()
+            .map(
+                indexes ->
+                    CompletableFuture.supplyAsync(
+                        () -> processInOrder(events, indexes), workerExecutor))
+            .toList();
+    var results = lanes.stream().map(CompletableFuture::join).toList();
+    LOGGER.info(
+        "TransactionProcessedEvents published count={}",
+        results.stream().mapToInt(LaneResult::published).sum());
+
+    // offsets are committed up to the earliest failed record; records after it are redelivered
+    var firstFailure =
+        results.stream()
+            .filter(result -> result.failedIndex() >= 0)
+            .min(Comparator.comparingInt(LaneResult::failedIndex));
+    if (firstFailure.isPresent()) {
+      var failure = firstFailure.get();
+      throw new BatchListenerFailedException(
+          failure.failure().getMessage(), failure.failure(), failure.failedIndex());
+    }
+  }
+
+  private static List<List<Integer>> groupByAccount(final List<TransactionCreatedEvent> events) {
+    var lanes = new LinkedHashMap<UUID, List<Integer>>();
+    for (int index = 0; index < events.size(); index++) {
+      lanes.computeIfAbsent(events.get(index).accountId(), key -> new ArrayList<>()).add(index);
+    }
+    return List.copyOf(lanes.values());
+  }
+
+  // Each lane runs in one transaction that also waits for the publish ack, so a failed publish
+  // rolls its records back to CREATED (and keeps them out of the dedupe cache) instead of leaving
+  // them PROCESSED and never published. A failed publish is reported at the lane's first record.
+  // When a record fails, the records before it rolled back with it: they are committed again on
+  // their own and the failed record itself is reported, so only that record is recovered.
+  private LaneResult processInOrder(
+      final List<TransactionCreatedEvent> events, final List<Integer> indexes) {
+    var position = new AtomicInteger(-1);
+    try {
+      return new LaneResult(commit(events, indexes, position), -1, null);
+    } catch (RuntimeException ex) {
+      var failedAt = position.get();
+      if (failedAt <= 0) {
+        return new LaneResult(0, indexes.getFirst(), ex);
+      }
+      try {
+        var published = commit(events, indexes.subList(0, failedAt), new AtomicInteger(-1));
+        return new LaneResult(published, indexes.get(failedAt), ex);
+      } catch (RuntimeException retryEx) {
+        return new LaneResult(0, indexes.getFirst(), retryEx);
+      }
+    }
+  }
+
+  // position holds the lane position being processed, and -1 while publishing
+  private int commit(
+      final List<TransactionCreatedEvent> events,
+      final List<Integer> indexes,
+      final AtomicInteger position) {
+    return transactionTemplate.execute(
+        status -> {
+          var processed = new ArrayList<TransactionProcessedEvent>(indexes.size());
+          for (int lanePosition = 0; lanePosition < indexes.size(); lanePosition++) {
+            position.set(lanePosition);
+            processTransactionUseCase
+                .execute(new TransactionID(events.get(indexes.get(lanePosition)).transactionId()))
+                .map(TransactionProcessedEvent::from)
+                .ifPresent(processed::add);
+          }
+          position.set(-1);
+          if (!processed.isEmpty()) {
+            transactionProcessedPublisher.publishAll(processed);
+          }
+          return processed.size();
+        });
+  }
+
+  private record LaneResult(int published, int failedIndex, RuntimeException failure) {}
+}
@@ -0,0 +1,63 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.consumer;
+
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionCreatedEvent;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.config.KafkaRetryTiers;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.config.KafkaTopics;
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.KafkaConsumerBackoffManager;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TransactionCreatedEventRetryConsumer {
+
+  public static final String LISTENER_ID = "transaction-created-retry";
+
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(TransactionCreatedEventRetryConsumer.class);
+
+  private final TransactionCreatedEventHandler handler;
+  private final KafkaConsumerBackoffManager backoffManager;
+
+  public TransactionCreatedEventRetryConsumer(
+      final TransactionCreatedEventHandler handler,
+      final KafkaConsumerBackoffManager backoffManager) {
+    this.handler = handler;
+    this.backoffManager = backoffManager;
+  }
+
+  // A record that is not due yet pauses only its own partition until its x-retry-due-at, then is
+  // re-read. Each tier has a single delay, so records behind it are never due earlier.
+  @KafkaListener(
+      id = LISTENER_ID,
+      topics = {
+        KafkaTopics.TRANSACTIONS_CREATED_RETRY_1S,
+        KafkaTopics.TRANSACTIONS_CREATED_RETRY_10S,
+        KafkaTopics.TRANSACTIONS_CREATED_RETRY_60S
+      },
+      groupId = "transaction-processor",
+      containerFactory = "retryListenerContainerFactory")
+  public void consume(
+      final TransactionCreatedEvent event,
+      @Header(KafkaHeaders.RECEIVED_TOPIC) final String topic,
+      @Header(KafkaHeaders.RECEIVED_PARTITION) final int partition,
+      @Header(name = KafkaRetryTiers.RETRY_DUE_AT_HEADER, required = false) final byte[] dueAt,
+      final Consumer<?, ?> consumer) {
+    if (dueAt != null) {
+      backoffManager.backOffIfNecessary(
+          backoffManager.createContext(
+              Long.parseLong(new String(dueAt, StandardCharsets.UTF_8)),
+              LISTENER_ID,
+              new TopicPartition(topic, partition),
+              consumer));
+    }
+    LOGGER.info("Retrying transactionId={} from topic={}", event.transactionId(), topic);
+    handler.handle(event);
+  }
+}
@@ -0,0 +1,48 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.publisher;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class KafkaOutboxEventPublisher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(KafkaOutboxEventPublisher.class);
+
+  private final KafkaTemplate<String, byte[]> kafkaTemplate;
+
+  public KafkaOutboxEventPublisher(final ProducerFactory<String, byte[]> producerFactory) {
+    this.kafkaTemplate =
+        new KafkaTemplate<>(
+            producerFactory,
+            Map.of(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class));
+  }
+
+  public CompletableFuture<Void> publish(
+      final String topic, final String key, final byte[] payload) {
+    return kafkaTemplate
+        .send(topic, key, payload)
+        .whenComplete(
+            (result, exception) -> {
+              if (exception != null) {
+                LOGGER.error(
+                    "Failed to publish outbox event. topic={}, key={}", topic, key, exception);
+              } else {
+                var metadata = result.getRecordMetadata();
+                LOGGER.debug(
+                    "Outbox event published. topic={}, partition={}, offset={}, key={}",
+                    metadata.topic(),
+                    metadata.partition(),
+                    metadata.offset(),
+                    key);
+              }
+            })
+        .thenAccept(result -> {});
+  }
+}
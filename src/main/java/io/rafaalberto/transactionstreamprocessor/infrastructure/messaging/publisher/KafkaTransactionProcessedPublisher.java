@@ -3,9 +3,12 @@ package io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.publi
 import io.rafaalberto.transactionstreamprocessor.application.events.TransactionProcessedEvent;
 import io.rafaalberto.transactionstreamprocessor.application.publisher.TransactionProcessedEventPublisher;
 import io.rafaalberto.transactionstreamprocessor.infrastructure.config.KafkaTopics;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -23,7 +26,18 @@ public class KafkaTransactionProcessedPublisher implements TransactionProcessedE
 
   @Override
   public void publish(final TransactionProcessedEvent event) {
-    kafkaTemplate
+    send(event);
+  }
+
+  @Override
+  public void publishAll(final List<TransactionProcessedEvent> events) {
+    var sends = events.stream().map(this::send).toArray(CompletableFuture[]::new);
+    CompletableFuture.allOf(sends).join();
+  }
+
+  private CompletableFuture<SendResult<String, TransactionProcessedEvent>> send(
+      final TransactionProcessedEvent event) {
+    return kafkaTemplate
         .send(KafkaTopics.TRANSACTIONS_PROCESSED, event.externalReference(), event)
         .whenComplete(
             (result, exception) -> {
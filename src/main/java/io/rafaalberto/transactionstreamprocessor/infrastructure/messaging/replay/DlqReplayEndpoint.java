@@ -0,0 +1,72 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.replay;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.OptionalParameter;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "dlqreplay")
+public class DlqReplayEndpoint {
+
+  private final DlqReplayService replayService;
+
+  public DlqReplayEndpoint(final DlqReplayService replayService) {
+    this.replayService = replayService;
+  }
+
+  @ReadOperation
+  public DlqReplayStatus status() {
+    return replayService.status();
+  }
+
+  @WriteOperation
+  public DlqReplayStatus start(
+      @OptionalParameter final String fromOffsets,
+      @OptionalParameter final String fromTime,
+      @OptionalParameter final String toTime,
+      @OptionalParameter final String exceptionClass,
+      @OptionalParameter final Integer ratePerSecond) {
+    return replayService.start(
+        new DlqReplayRequest(
+            offsets(fromOffsets),
+            instant(fromTime),
+            instant(toTime),
+            exceptionClass,
+            ratePerSecond));
+  }
+
+  @DeleteOperation
+  public DlqReplayStatus cancel() {
+    return replayService.cancel();
+  }
+
+  // "0:120,1:45" -> partition 0 from offset 120, partition 1 from offset 45
+  private static Map<Integer, Long> offsets(final String value) {
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    var offsets = new HashMap<Integer, Long>();
+    for (var entry : value.split(",")) {
+      var parts = entry.split(":");
+      try {
+        offsets.put(Integer.valueOf(parts[0].trim()), Long.valueOf(parts[1].trim()));
+      } catch (NumberFormatException | ArrayIndexOutOfBoundsException ex) {
+        throw new InvalidEndpointRequestException(
+            "fromOffsets must list partition:offset pairs, e.g. 0:120,1:45",
+            "Invalid fromOffsets");
+      }
+    }
+    return offsets;
+  }
+
+  private static Instant instant(final String value) {
+    return value != null && !value.isBlank() ? Instant.parse(value) : null;
+  }
+}
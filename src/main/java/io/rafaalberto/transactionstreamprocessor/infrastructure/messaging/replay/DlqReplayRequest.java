@@ -0,0 +1,11 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.replay;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record DlqReplayRequest(
+    Map<Integer, Long> fromOffsets,
+    Instant fromTime,
+    Instant toTime,
+    String exceptionClass,
+    Integer ratePerSecond) {}
@@ -0,0 +1,371 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.replay;
+
+import io.rafaalberto.transactionstreamprocessor.infrastructure.config.KafkaConsumerConfig;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.config.KafkaRetryTiers;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.config.KafkaTopics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DlqReplayService {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DlqReplayService.class);
+
+  public static final String REPLAYED_FROM_HEADER = "x-replayed-from";
+
+  private static final String DLT_HEADER_PREFIX = "kafka_dlt-";
+  private static final List<String> EXCEPTION_CLASS_HEADERS =
+      List.of(
+          KafkaConsumerConfig.EXCEPTION_CLASS_HEADER,
+          "kafka_dlt-exception-fqcn",
+          "kafka_dlt-exception-cause-fqcn");
+  private static final Set<String> DROPPED_HEADERS =
+      Set.of(
+          KafkaConsumerConfig.EXCEPTION_CLASS_HEADER,
+          KafkaConsumerConfig.EXCEPTION_MESSAGE_HEADER,
+          KafkaRetryTiers.RETRY_DUE_AT_HEADER);
+
+  private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+  private static final long PROGRESS_LOG_INTERVAL = 10_000;
+
+  private final ConsumerFactory<String, byte[]> consumerFactory;
+  private final KafkaTemplate<String, byte[]> kafkaTemplate;
+  private final AsyncTaskExecutor executor;
+  private final int defaultRatePerSecond;
+  private final long sendTimeoutMs;
+
+  private volatile Job current;
+
+  public DlqReplayService(
+      final ConsumerFactory<String, byte[]> consumerFactory,
+      final ProducerFactory<String, byte[]> producerFactory,
+      @Qualifier("dlqReplayExecutor") final AsyncTaskExecutor executor,
+      @Value("${kafka.dlq.replay.rate-per-second:2000}") final int defaultRatePerSecond,
+      @Value("${kafka.dlq.replay.max-poll-records:500}") final int maxPollRecords,
+      @Value("${kafka.dlq.replay.send-timeout-ms:30000}") final long sendTimeoutMs) {
+    var consumerConfig = new HashMap<>(consumerFactory.getConfigurationProperties());
+    // partitions are assigned manually and progress is not committed to any group
+    consumerConfig.remove(ConsumerConfig.GROUP_ID_CONFIG);
+    consumerConfig.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    consumerConfig.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+    this.consumerFactory =
+        new DefaultKafkaConsumerFactory<>(
+            consumerConfig, new StringDeserializer(), new ByteArrayDeserializer());
+    this.kafkaTemplate =
+        new KafkaTemplate<>(
+            producerFactory,
+            Map.of(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class));
+    this.executor = executor;
+    this.defaultRatePerSecond = defaultRatePerSecond;
+    this.sendTimeoutMs = sendTimeoutMs;
+  }
+
+  public synchronized DlqReplayStatus start(final DlqReplayRequest request) {
+    if (current != null && current.state == DlqReplayStatus.State.RUNNING) {
+      LOGGER.warn("DLQ replay already running, ignoring request={}", request);
+      return current.status();
+    }
+    var rate =
+        request.ratePerSecond() != null && request.ratePerSecond() > 0
+            ? request.ratePerSecond()
+            : defaultRatePerSecond;
+    var job = new Job(request, rate);
+    current = job;
+    executor.execute(() -> run(job));
+    return job.status();
+  }
+
+  public DlqReplayStatus status() {
+    var job = current;
+    return job != null ? job.status() : DlqReplayStatus.idle();
+  }
+
+  public DlqReplayStatus cancel() {
+    var job = current;
+    if (job == null) {
+      return DlqReplayStatus.idle();
+    }
+    job.cancelled = true;
+    return job.status();
+  }
+
+  private void run(final Job job) {
+    LOGGER.info("DLQ replay started request={} ratePerSecond={}", job.request, job.ratePerSecond);
+    try (var consumer = consumerFactory.createConsumer()) {
+      var partitions =
+          consumer.partitionsFor(KafkaTopics.TRANSACTIONS_DLQ).stream()
+              .map(info -> new TopicPartition(info.topic(), info.partition()))
+              .toList();
+      consumer.assign(partitions);
+      // replay up to the end seen at start, records failing again during the replay are not chased
+      var endOffsets = consumer.endOffsets(partitions);
+      seekToStart(consumer, partitions, endOffsets, job.request);
+      var pending = new HashSet<>(partitions);
+      job.advance(consumer, partitions, Map.of());
+      job.remaining.set(remaining(consumer, pending, endOffsets));
+
+      var state = DlqReplayStatus.State.COMPLETED;
+      while (job.remaining.get() > 0 && !job.cancelled) {
+        var failedFrom = replayBatch(job, consumer.poll(POLL_TIMEOUT), endOffsets);
+        job.advance(consumer, partitions, failedFrom);
+        if (!failedFrom.isEmpty()) {
+          // stop rather than skip records: nextOffsets is where a new replay resumes
+          LOGGER.error(
+              "DLQ replay stopped on failed sends, nextOffsets={}", job.status().nextOffsets());
+          state = DlqReplayStatus.State.FAILED;
+          break;
+        }
+        job.remaining.set(remaining(consumer, pending, endOffsets));
+      }
+      job.finish(job.cancelled ? DlqReplayStatus.State.CANCELLED : state);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      job.finish(DlqReplayStatus.State.CANCELLED);
+    } catch (RuntimeException ex) {
+      LOGGER.error("DLQ replay failed", ex);
+      job.finish(DlqReplayStatus.State.FAILED);
+    }
+    LOGGER.info("DLQ replay finished status={}", job.status());
+  }
+
+  // returns, per partition, the lowest offset whose send failed
+  private Map<TopicPartition, Long> replayBatch(
+      final Job job,
+      final Iterable<ConsumerRecord<String, byte[]>> records,
+      final Map<TopicPartition, Long> endOffsets)
+      throws InterruptedException {
+    var sends = new ArrayList<Send>();
+    for (var consumerRecord : records) {
+      var partition = new TopicPartition(consumerRecord.topic(), consumerRecord.partition());
+      if (consumerRecord.offset() >= endOffsets.getOrDefault(partition, 0L)) {
+        continue;
+      }
+      job.scanned.incrementAndGet();
+      var target = headerValue(consumerRecord, KafkaConsumerConfig.ORIGINAL_TOPIC_HEADER);
+      if (target == null || target.isBlank() || !job.selects(consumerRecord)) {
+        job.skipped.incrementAndGet();
+        continue;
+      }
+      sends.add(
+          new Send(
+              partition,
+              consumerRecord.offset(),
+              kafkaTemplate.send(replayRecord(target, consumerRecord))));
+    }
+    var failedFrom = new HashMap<TopicPartition, Long>();
+    if (!sends.isEmpty()) {
+      awaitSends(job, sends, failedFrom);
+      job.throttle(sends.size());
+    }
+    if (job.scanned.get() >= job.nextProgressLog) {
+      LOGGER.info("DLQ replay progress status={}", job.status());
+      job.nextProgressLog += PROGRESS_LOG_INTERVAL;
+    }
+    return failedFrom;
+  }
+
+  private void awaitSends(
+      final Job job, final List<Send> sends, final Map<TopicPartition, Long> failedFrom)
+      throws InterruptedException {
+    try {
+      CompletableFuture.allOf(sends.stream().map(Send::result).toArray(CompletableFuture[]::new))
+          .get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+    } catch (ExecutionException | TimeoutException ex) {
+      LOGGER.warn("Some DLQ records could not be replayed", ex);
+    }
+    for (var send : sends) {
+      if (send.result().isDone() && !send.result().isCompletedExceptionally()) {
+        job.replayed.incrementAndGet();
+      } else {
+        job.failed.incrementAndGet();
+        failedFrom.merge(send.partition(), send.offset(), Math::min);
+      }
+    }
+  }
+
+  private static ProducerRecord<String, byte[]> replayRecord(
+      final String target, final ConsumerRecord<String, byte[]> consumerRecord) {
+    var replay =
+        new ProducerRecord<>(target, null, consumerRecord.key(), consumerRecord.value());
+    for (Header header : consumerRecord.headers()) {
+      if (!DROPPED_HEADERS.contains(header.key())
+          && !header.key().startsWith(DLT_HEADER_PREFIX)) {
+        replay.headers().add(header);
+      }
+    }
+    var source =
+        consumerRecord.topic() + "-" + consumerRecord.partition() + "@" + consumerRecord.offset();
+    replay.headers().add(REPLAYED_FROM_HEADER, source.getBytes(StandardCharsets.UTF_8));
+    return replay;
+  }
+
+  private static void seekToStart(
+      final Consumer<String, byte[]> consumer,
+      final List<TopicPartition> partitions,
+      final Map<TopicPartition, Long> endOffsets,
+      final DlqReplayRequest request) {
+    if (request.fromTime() != null) {
+      var timestamps = new HashMap<TopicPartition, Long>();
+      partitions.forEach(partition -> timestamps.put(partition, request.fromTime().toEpochMilli()));
+      consumer
+          .offsetsForTimes(timestamps)
+          .forEach(
+              (partition, found) ->
+                  consumer.seek(
+                      partition, found != null ? found.offset() : endOffsets.get(partition)));
+    } else if (request.fromOffsets() != null) {
+      // partitions left out of fromOffsets are not replayed
+      consumer
+          .beginningOffsets(partitions)
+          .forEach(
+              (partition, beginning) -> {
+                var end = endOffsets.get(partition);
+                var from = request.fromOffsets().getOrDefault(partition.partition(), end);
+                consumer.seek(partition, Math.min(end, Math.max(beginning, from)));
+              });
+    } else {
+      consumer.seekToBeginning(partitions);
+    }
+  }
+
+  private static long remaining(
+      final Consumer<String, byte[]> consumer,
+      final Set<TopicPartition> pending,
+      final Map<TopicPartition, Long> endOffsets) {
+    long remaining = 0;
+    for (var iterator = pending.iterator(); iterator.hasNext(); ) {
+      var partition = iterator.next();
+      var left = endOffsets.get(partition) - consumer.position(partition);
+      if (left <= 0) {
+        iterator.remove();
+      } else {
+        remaining += left;
+      }
+    }
+    return remaining;
+  }
+
+  private static String headerValue(
+      final ConsumerRecord<String, byte[]> consumerRecord, final String key) {
+    var header = consumerRecord.headers().lastHeader(key);
+    return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+  }
+
+  private static final class Job {
+
+    private final DlqReplayRequest request;
+    private final int ratePerSecond;
+    private final Instant startedAt = Instant.now();
+    private final long startedNanos = System.nanoTime();
+    private final AtomicLong scanned = new AtomicLong();
+    private final AtomicLong replayed = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong remaining = new AtomicLong();
+    private final Map<Integer, Long> nextOffsets = new ConcurrentHashMap<>();
+    private long sent;
+    private long nextProgressLog = PROGRESS_LOG_INTERVAL;
+    private volatile boolean cancelled;
+    private volatile DlqReplayStatus.State state = DlqReplayStatus.State.RUNNING;
+    private volatile Instant finishedAt;
+
+    Job(final DlqReplayRequest request, final int ratePerSecond) {
+      this.request = request;
+      this.ratePerSecond = ratePerSecond;
+    }
+
+    boolean selects(final ConsumerRecord<String, byte[]> consumerRecord) {
+      var timestamp = consumerRecord.timestamp();
+      if (request.fromTime() != null && timestamp < request.fromTime().toEpochMilli()
+          || request.toTime() != null && timestamp > request.toTime().toEpochMilli()) {
+        return false;
+      }
+      var exceptionClass = request.exceptionClass();
+      if (exceptionClass == null || exceptionClass.isBlank()) {
+        return true;
+      }
+      return EXCEPTION_CLASS_HEADERS.stream()
+          .map(key -> headerValue(consumerRecord, key))
+          .anyMatch(
+              value ->
+                  value != null
+                      && (value.equals(exceptionClass) || value.endsWith("." + exceptionClass)));
+    }
+
+    // keeps the average send rate at ratePerSecond since the job started
+    void throttle(final int justSent) throws InterruptedException {
+      sent += justSent;
+      var dueNanos = startedNanos + sent * TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+      var waitNanos = dueNanos - System.nanoTime();
+      if (waitNanos > 0) {
+        TimeUnit.NANOSECONDS.sleep(waitNanos);
+      }
+    }
+
+    void advance(
+        final Consumer<String, byte[]> consumer,
+        final List<TopicPartition> partitions,
+        final Map<TopicPartition, Long> failedFrom) {
+      for (var partition : partitions) {
+        var next = failedFrom.get(partition);
+        nextOffsets.put(partition.partition(), next != null ? next : consumer.position(partition));
+      }
+    }
+
+    void finish(final DlqReplayStatus.State finalState) {
+      finishedAt = Instant.now();
+      state = finalState;
+    }
+
+    DlqReplayStatus status() {
+      return new DlqReplayStatus(
+          state,
+          request,
+          scanned.get(),
+          replayed.get(),
+          skipped.get(),
+          failed.get(),
+          remaining.get(),
+          Collections.unmodifiableMap(new TreeMap<>(nextOffsets)),
+          startedAt,
+          finishedAt);
+    }
+  }
+
+  private record Send(TopicPartition partition, long offset, CompletableFuture<?> result) {}
+}
@@ -0,0 +1,29 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.replay;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record DlqReplayStatus(
+    State state,
+    DlqReplayRequest request,
+    long scanned,
+    long replayed,
+    long skipped,
+    long failed,
+    long remaining,
+    Map<Integer, Long> nextOffsets,
+    Instant startedAt,
+    Instant finishedAt) {
+
+  public enum State {
+    IDLE,
+    RUNNING,
+    COMPLETED,
+    CANCELLED,
+    FAILED
+  }
+
+  static DlqReplayStatus idle() {
+    return new DlqReplayStatus(State.IDLE, null, 0, 0, 0, 0, 0, Map.of(), null, null);
+  }
+}
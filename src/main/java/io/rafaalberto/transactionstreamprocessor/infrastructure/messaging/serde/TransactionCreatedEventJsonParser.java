@@ -0,0 +1,167 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.serde;
+
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionCreatedEvent;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Currency;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionType;
+import java.math.BigDecimal;
+import java.nio.CharBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.json.JsonFactory;
+
+public final class TransactionCreatedEventJsonParser {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private static final int UUID_LENGTH = 36;
+  private static final int NANOS_PER_SECOND = 1_000_000_000;
+
+  private TransactionCreatedEventJsonParser() {}
+
+  // returns null when the payload needs the generic deserializer (unknown field or shape)
+  public static TransactionCreatedEvent parse(final byte[] data) {
+    try (var parser = JSON_FACTORY.createParser(ObjectReadContext.empty(), data)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return null;
+      }
+      var fields = new Fields();
+      var token = parser.nextToken();
+      while (token == JsonToken.PROPERTY_NAME) {
+        var name = parser.currentName();
+        parser.nextToken();
+        if (!fields.read(name, parser)) {
+          return null;
+        }
+        token = parser.nextToken();
+      }
+      return token == JsonToken.END_OBJECT ? fields.toEvent() : null;
+    } catch (JacksonException | IllegalArgumentException | DateTimeException ex) {
+      return null;
+    }
+  }
+
+  private static final class Fields {
+
+    private UUID transactionId;
+    private BigDecimal amount;
+    private Currency currency;
+    private UUID accountId;
+    private TransactionType type;
+    private Instant occurredAt;
+    private Instant createdAt;
+    private String externalReference;
+
+    boolean read(final String name, final JsonParser parser) {
+      switch (name) {
+        case "transactionId" -> transactionId = uuid(parser);
+        case "amount" -> amount = decimal(parser);
+        case "currency" -> currency = isNull(parser) ? null : Currency.valueOf(text(parser));
+        case "accountId" -> accountId = uuid(parser);
+        case "type" -> type = isNull(parser) ? null : TransactionType.valueOf(text(parser));
+        case "occurredAt" -> occurredAt = instant(parser);
+        case "createdAt" -> createdAt = instant(parser);
+        case "externalReference" -> externalReference = isNull(parser) ? null : text(parser);
+        default -> {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    TransactionCreatedEvent toEvent() {
+      return new TransactionCreatedEvent(
+          transactionId,
+          amount,
+          currency,
+          accountId,
+          type,
+          occurredAt,
+          createdAt,
+          externalReference);
+    }
+  }
+
+  private static boolean isNull(final JsonParser parser) {
+    return parser.currentToken() == JsonToken.VALUE_NULL;
+  }
+
+  private static String text(final JsonParser parser) {
+    if (parser.currentToken() != JsonToken.VALUE_STRING) {
+      throw new IllegalArgumentException("Expected a string value");
+    }
+    return parser.getString();
+  }
+
+  private static UUID uuid(final JsonParser parser) {
+    if (isNull(parser)) {
+      return null;
+    }
+    if (parser.currentToken() != JsonToken.VALUE_STRING
+        || parser.getStringLength() != UUID_LENGTH) {
+      throw new IllegalArgumentException("Expected a UUID string");
+    }
+    var chars = parser.getStringCharacters();
+    var offset = parser.getStringOffset();
+    var mostSignificant = hex(chars, offset, 8) << 32;
+    mostSignificant |= hex(chars, offset + 9, 4) << 16;
+    mostSignificant |= hex(chars, offset + 14, 4);
+    var leastSignificant = hex(chars, offset + 19, 4) << 48;
+    leastSignificant |= hex(chars, offset + 24, 12);
+    if (chars[offset + 8] != '-'
+        || chars[offset + 13] != '-'
+        || chars[offset + 18] != '-'
+        || chars[offset + 23] != '-') {
+      throw new IllegalArgumentException("Malformed UUID");
+    }
+    return new UUID(mostSignificant, leastSignificant);
+  }
+
+  private static long hex(final char[] chars, final int offset, final int length) {
+    long value = 0;
+    for (int index = offset; index < offset + length; index++) {
+      var digit = Character.digit(chars[index], 16);
+      if (digit < 0) {
+        throw new IllegalArgumentException("Malformed UUID");
+      }
+      value = (value << 4) | digit;
+    }
+    return value;
+  }
+
+  private static BigDecimal decimal(final JsonParser parser) {
+    return switch (parser.currentToken()) {
+      case VALUE_NULL -> null;
+      case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getDecimalValue();
+      case VALUE_STRING ->
+          new BigDecimal(
+              parser.getStringCharacters(), parser.getStringOffset(), parser.getStringLength());
+      default -> throw new IllegalArgumentException("Expected a decimal value");
+    };
+  }
+
+  // ISO-8601 strings, or decimal epoch seconds as written with WRITE_DATES_AS_TIMESTAMPS
+  private static Instant instant(final JsonParser parser) {
+    return switch (parser.currentToken()) {
+      case VALUE_NULL -> null;
+      case VALUE_STRING ->
+          DateTimeFormatter.ISO_INSTANT.parse(
+              CharBuffer.wrap(
+                  parser.getStringCharacters(), parser.getStringOffset(), parser.getStringLength()),
+              Instant::from);
+      case VALUE_NUMBER_FLOAT -> epochSeconds(parser.getDecimalValue());
+      default -> throw new IllegalArgumentException("Unsupported instant representation");
+    };
+  }
+
+  private static Instant epochSeconds(final BigDecimal seconds) {
+    var wholeSeconds = seconds.longValue();
+    var nanos = seconds.subtract(BigDecimal.valueOf(wholeSeconds)).movePointRight(9).intValue();
+    return Instant.ofEpochSecond(wholeSeconds, nanos % NANOS_PER_SECOND);
+  }
+}
@@ -0,0 +1,234 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.serde;
+
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionCreatedEvent;
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionProcessedEvent;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Currency;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+public final class TransactionEventBinaryCodec {
+
+  // JSON payloads always start with '{', so the magic byte tells the two formats apart
+  public static final byte MAGIC = (byte) 0xB7;
+  public static final byte VERSION = 1;
+
+  private static final byte CREATED = 1;
+  private static final byte PROCESSED = 2;
+
+  private static final int HEADER_BYTES = 3;
+  private static final int UUID_BYTES = 16;
+  private static final int AMOUNT_BYTES = 10;
+  private static final int INSTANT_BYTES = 8;
+  private static final int STRING_LENGTH_BYTES = 2;
+  private static final int NULL_LENGTH = -1;
+  private static final long MICROS_PER_SECOND = 1_000_000L;
+
+  private TransactionEventBinaryCodec() {}
+
+  public static boolean supports(final Object event) {
+    if (event instanceof TransactionCreatedEvent created) {
+      return allPresent(
+              created.transactionId(),
+              created.accountId(),
+              created.occurredAt(),
+              created.createdAt())
+          && fitsInLong(created.amount());
+    }
+    if (event instanceof TransactionProcessedEvent processed) {
+      return allPresent(processed.transactionId(), processed.accountId(), processed.processedAt());
+    }
+    return false;
+  }
+
+  public static boolean isBinary(final byte[] data) {
+    return data != null && data.length >= HEADER_BYTES && data[0] == MAGIC;
+  }
+
+  public static byte[] encode(final Object event) {
+    if (event instanceof TransactionCreatedEvent created) {
+      return encodeCreated(created);
+    }
+    if (event instanceof TransactionProcessedEvent processed) {
+      return encodeProcessed(processed);
+    }
+    throw new IllegalArgumentException("Unsupported event for binary encoding: " + event);
+  }
+
+  public static Object decode(final byte[] data) {
+    if (!isBinary(data)) {
+      throw new IllegalArgumentException("Payload is not a binary transaction event");
+    }
+    var buffer = ByteBuffer.wrap(data);
+    buffer.get();
+    var version = buffer.get();
+    if (version != VERSION) {
+      throw new IllegalArgumentException("Unsupported binary event version: " + version);
+    }
+    try {
+      var type = buffer.get();
+      return switch (type) {
+        case CREATED -> decodeCreated(buffer);
+        case PROCESSED -> decodeProcessed(buffer);
+        default -> throw new IllegalArgumentException("Unknown binary event type: " + type);
+      };
+    } catch (BufferUnderflowException ex) {
+      throw new IllegalArgumentException("Truncated binary transaction event", ex);
+    }
+  }
+
+  private static byte[] encodeCreated(final TransactionCreatedEvent event) {
+    var currency = utf8(event.currency() != null ? event.currency().name() : null);
+    var type = utf8(event.type() != null ? event.type().name() : null);
+    var externalReference = utf8(event.externalReference());
+    var size =
+        HEADER_BYTES
+            + 2 * UUID_BYTES
+            + AMOUNT_BYTES
+            + 2 * INSTANT_BYTES
+            + stringBytes(currency)
+            + stringBytes(type)
+            + stringBytes(externalReference);
+    var buffer = header(size, CREATED);
+    putUuid(buffer, event.transactionId());
+    putAmount(buffer, event.amount());
+    putString(buffer, currency);
+    putUuid(buffer, event.accountId());
+    putString(buffer, type);
+    putInstant(buffer, event.occurredAt());
+    putInstant(buffer, event.createdAt());
+    putString(buffer, externalReference);
+    return buffer.array();
+  }
+
+  private static TransactionCreatedEvent decodeCreated(final ByteBuffer buffer) {
+    var transactionId = getUuid(buffer);
+    var amount = getAmount(buffer);
+    var currency = getString(buffer);
+    var accountId = getUuid(buffer);
+    var type = getString(buffer);
+    return new TransactionCreatedEvent(
+        transactionId,
+        amount,
+        currency != null ? Currency.valueOf(currency) : null,
+        accountId,
+        type != null ? TransactionType.valueOf(type) : null,
+        getInstant(buffer),
+        getInstant(buffer),
+        getString(buffer));
+  }
+
+  private static byte[] encodeProcessed(final TransactionProcessedEvent event) {
+    var status = utf8(event.status());
+    var externalReference = utf8(event.externalReference());
+    var size =
+        HEADER_BYTES
+            + 2 * UUID_BYTES
+            + INSTANT_BYTES
+            + stringBytes(status)
+            + stringBytes(externalReference);
+    var buffer = header(size, PROCESSED);
+    putUuid(buffer, event.transactionId());
+    putUuid(buffer, event.accountId());
+    putString(buffer, status);
+    putInstant(buffer, event.processedAt());
+    putString(buffer, externalReference);
+    return buffer.array();
+  }
+
+  private static TransactionProcessedEvent decodeProcessed(final ByteBuffer buffer) {
+    return new TransactionProcessedEvent(
+        getUuid(buffer), getUuid(buffer), getString(buffer), getInstant(buffer), getString(buffer));
+  }
+
+  private static ByteBuffer header(final int size, final byte type) {
+    return ByteBuffer.allocate(size).put(MAGIC).put(VERSION).put(type);
+  }
+
+  private static void putUuid(final ByteBuffer buffer, final UUID uuid) {
+    buffer.putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+  }
+
+  private static UUID getUuid(final ByteBuffer buffer) {
+    return new UUID(buffer.getLong(), buffer.getLong());
+  }
+
+  private static boolean allPresent(final Object... values) {
+    for (var value : values) {
+      if (value == null) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean fitsInLong(final BigDecimal amount) {
+    return amount != null
+        && amount.unscaledValue().bitLength() < Long.SIZE
+        && amount.scale() >= Short.MIN_VALUE
+        && amount.scale() <= Short.MAX_VALUE;
+  }
+
+  private static void putAmount(final ByteBuffer buffer, final BigDecimal amount) {
+    if (!fitsInLong(amount)) {
+      throw new IllegalArgumentException("Amount does not fit the binary format: " + amount);
+    }
+    buffer.putLong(amount.unscaledValue().longValue()).putShort((short) amount.scale());
+  }
+
+  private static BigDecimal getAmount(final ByteBuffer buffer) {
+    var unscaled = buffer.getLong();
+    return new BigDecimal(BigInteger.valueOf(unscaled), buffer.getShort());
+  }
+
+  private static void putInstant(final ByteBuffer buffer, final Instant instant) {
+    buffer.putLong(
+        Math.addExact(
+            Math.multiplyExact(instant.getEpochSecond(), MICROS_PER_SECOND),
+            instant.getNano() / 1_000L));
+  }
+
+  private static Instant getInstant(final ByteBuffer buffer) {
+    var micros = buffer.getLong();
+    return Instant.ofEpochSecond(
+        Math.floorDiv(micros, MICROS_PER_SECOND),
+        Math.floorMod(micros, MICROS_PER_SECOND) * 1_000L);
+  }
+
+  private static byte[] utf8(final String value) {
+    return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+  }
+
+  private static int stringBytes(final byte[] value) {
+    return STRING_LENGTH_BYTES + (value != null ? value.length : 0);
+  }
+
+  private static void putString(final ByteBuffer buffer, final byte[] value) {
+    if (value == null) {
+      buffer.putShort((short) NULL_LENGTH);
+      return;
+    }
+    if (value.length > Short.MAX_VALUE) {
+      throw new IllegalArgumentException("String field too long for the binary format");
+    }
+    buffer.putShort((short) value.length).put(value);
+  }
+
+  private static String getString(final ByteBuffer buffer) {
+    var length = buffer.getShort();
+    if (length == NULL_LENGTH) {
+      return null;
+    }
+    if (length < 0) {
+      throw new IllegalArgumentException("Invalid string length in binary event: " + length);
+    }
+    var value = new byte[length];
+    buffer.get(value);
+    return new String(value, StandardCharsets.UTF_8);
+  }
+}
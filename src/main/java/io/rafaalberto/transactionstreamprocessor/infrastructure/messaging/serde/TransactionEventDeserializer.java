@@ -0,0 +1,57 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.serde;
+
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionCreatedEvent;
+import java.util.Map;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+import org.springframework.kafka.support.serializer.JacksonJsonDeserializer;
+
+public class TransactionEventDeserializer implements Deserializer<Object> {
+
+  private final JacksonJsonDeserializer<Object> jsonDeserializer =
+      new JacksonJsonDeserializer<>();
+  private boolean streamingCreatedEvents;
+
+  @Override
+  public void configure(final Map<String, ?> configs, final boolean isKey) {
+    jsonDeserializer.configure(configs, isKey);
+    streamingCreatedEvents =
+        !isKey && isCreatedEventType(configs.get(JacksonJsonDeserializer.VALUE_DEFAULT_TYPE));
+  }
+
+  @Override
+  public Object deserialize(final String topic, final byte[] data) {
+    if (TransactionEventBinaryCodec.isBinary(data)) {
+      return TransactionEventBinaryCodec.decode(data);
+    }
+    var event = streamingCreatedEvents ? parseCreatedEvent(data) : null;
+    return event != null ? event : jsonDeserializer.deserialize(topic, data);
+  }
+
+  @Override
+  public Object deserialize(final String topic, final Headers headers, final byte[] data) {
+    if (TransactionEventBinaryCodec.isBinary(data)) {
+      return TransactionEventBinaryCodec.decode(data);
+    }
+    var typed =
+        headers != null
+            && headers.lastHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME) != null;
+    var event = streamingCreatedEvents && !typed ? parseCreatedEvent(data) : null;
+    return event != null ? event : jsonDeserializer.deserialize(topic, headers, data);
+  }
+
+  @Override
+  public void close() {
+    jsonDeserializer.close();
+  }
+
+  private static TransactionCreatedEvent parseCreatedEvent(final byte[] data) {
+    return data != null ? TransactionCreatedEventJsonParser.parse(data) : null;
+  }
+
+  private static boolean isCreatedEventType(final Object defaultType) {
+    return defaultType == TransactionCreatedEvent.class
+        || TransactionCreatedEvent.class.getName().equals(defaultType);
+  }
+}
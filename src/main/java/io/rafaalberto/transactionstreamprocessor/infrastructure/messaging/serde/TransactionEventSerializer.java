@@ -0,0 +1,62 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.serde;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JacksonJsonSerializer;
+
+public class TransactionEventSerializer implements Serializer<Object> {
+
+  public static final String BINARY_TOPICS_CONFIG = "transaction.serde.binary.topics";
+
+  private final JacksonJsonSerializer<Object> jsonSerializer = new JacksonJsonSerializer<>();
+  private Set<String> binaryTopics = Set.of();
+
+  @Override
+  public void configure(final Map<String, ?> configs, final boolean isKey) {
+    jsonSerializer.configure(configs, isKey);
+    binaryTopics = binaryTopics(configs.get(BINARY_TOPICS_CONFIG));
+  }
+
+  @Override
+  public byte[] serialize(final String topic, final Object data) {
+    if (isBinary(topic, data)) {
+      return TransactionEventBinaryCodec.encode(data);
+    }
+    return jsonSerializer.serialize(topic, data);
+  }
+
+  @Override
+  public byte[] serialize(final String topic, final Headers headers, final Object data) {
+    if (isBinary(topic, data)) {
+      return TransactionEventBinaryCodec.encode(data);
+    }
+    return jsonSerializer.serialize(topic, headers, data);
+  }
+
+  @Override
+  public void close() {
+    jsonSerializer.close();
+  }
+
+  private boolean isBinary(final String topic, final Object data) {
+    return binaryTopics.contains(topic) && TransactionEventBinaryCodec.supports(data);
+  }
+
+  private static Set<String> binaryTopics(final Object config) {
+    if (config instanceof Collection<?> topics) {
+      return topics.stream().map(String::valueOf).map(String::trim).collect(Collectors.toSet());
+    }
+    if (config instanceof String topics) {
+      return Arrays.stream(topics.split(","))
+          .map(String::trim)
+          .filter(topic -> !topic.isEmpty())
+          .collect(Collectors.toSet());
+    }
+    return Set.of();
+  }
+}
@@ -2,8 +2,14 @@ package io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa
 
 import io.rafaalberto.transactionstreamprocessor.application.outbox.OutboxEvent;
 import io.rafaalberto.transactionstreamprocessor.application.outbox.OutboxEventAppender;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.serde.TransactionEventBinaryCodec;
+import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.ObjectMapper;
@@ -11,28 +17,100 @@ import tools.jackson.databind.ObjectMapper;
 @Component
 public final class JpaOutboxEventAppender implements OutboxEventAppender {
 
+  public static final String NOTIFY_CHANNEL = "outbox_events";
+
+  private static final String INSERT_SQL =
+      """
+      INSERT INTO outbox_events (id, topic, message_key, payload, wire_payload, status, created_at)
+      VALUES (?, ?, ?, CAST(? AS jsonb), ?, ?, ?)
+      """;
+
   private final OutboxEventJpaRepository repository;
   private final ObjectMapper objectMapper;
+  private final JdbcTemplate jdbcTemplate;
+  private final OutboxAfterCommitPublisher afterCommitPublisher;
+  private final boolean notifyEnabled;
+  private final boolean directPublishEnabled;
+  private final Set<String> binaryTopics;
 
   public JpaOutboxEventAppender(
-      final OutboxEventJpaRepository repository, final ObjectMapper objectMapper) {
+      final OutboxEventJpaRepository repository,
+      final ObjectMapper objectMapper,
+      final JdbcTemplate jdbcTemplate,
+      final OutboxAfterCommitPublisher afterCommitPublisher,
+      @Value("${outbox.notify.enabled:true}") final boolean notifyEnabled,
+      @Value("${outbox.direct-publish.enabled:false}") final boolean directPublishEnabled,
+      @Value("${kafka.serde.binary-topics:}") final Set<String> binaryTopics) {
     this.repository = repository;
     this.objectMapper = objectMapper;
+    this.jdbcTemplate = jdbcTemplate;
+    this.afterCommitPublisher = afterCommitPublisher;
+    this.notifyEnabled = notifyEnabled;
+    this.directPublishEnabled = directPublishEnabled;
+    this.binaryTopics = binaryTopics;
   }
 
   @Override
   public void append(final OutboxEvent event) {
+    var entity = toEntity(event);
+    repository.save(entity);
+    if (directPublishEnabled) {
+      afterCommitPublisher.publishAfterCommit(entity);
+    } else if (notifyEnabled) {
+      // Postgres delivers NOTIFY only when the surrounding transaction commits
+      jdbcTemplate.execute("NOTIFY " + NOTIFY_CHANNEL);
+    }
+  }
+
+  @Override
+  public void appendAll(final List<OutboxEvent> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+    var entities = events.stream().map(this::toEntity).toList();
+    jdbcTemplate.batchUpdate(
+        INSERT_SQL,
+        entities.stream()
+            .map(
+                entity ->
+                    new Object[] {
+                      entity.getId(),
+                      entity.getTopic(),
+                      entity.getMessageKey(),
+                      entity.getPayload(),
+                      entity.getWirePayload(),
+                      entity.getStatus().name(),
+                      Timestamp.from(entity.getCreatedAt())
+                    })
+            .toList());
+    if (directPublishEnabled) {
+      entities.forEach(afterCommitPublisher::publishAfterCommit);
+    } else if (notifyEnabled) {
+      jdbcTemplate.execute("NOTIFY " + NOTIFY_CHANNEL);
+    }
+  }
+
+  private OutboxEventEntity toEntity(final OutboxEvent event) {
     try {
-      var entity =
-          new OutboxEventEntity(
-              UUID.randomUUID(),
-              event.topic(),
-              objectMapper.writeValueAsString(event.payload()),
-              OutboxEventStatus.PENDING,
-              Instant.now());
-      repository.save(entity);
+      return new OutboxEventEntity(
+          UUID.randomUUID(),
+          event.topic(),
+          event.key(),
+          objectMapper.writeValueAsString(event.payload()),
+          wirePayload(event),
+          OutboxEventStatus.PENDING,
+          Instant.now());
     } catch (JacksonException ex) {
       throw new IllegalStateException("Failed to serialize outbox event payload", ex);
     }
   }
+
+  // the jsonb payload stays readable for operators; the relay sends the wire bytes when present
+  private byte[] wirePayload(final OutboxEvent event) {
+    if (binaryTopics.contains(event.topic())
+        && TransactionEventBinaryCodec.supports(event.payload())) {
+      return TransactionEventBinaryCodec.encode(event.payload());
+    }
+    return null;
+  }
 }
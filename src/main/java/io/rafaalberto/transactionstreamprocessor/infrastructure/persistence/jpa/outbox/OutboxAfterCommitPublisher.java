@@ -0,0 +1,69 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox;
+
+import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.publisher.KafkaOutboxEventPublisher;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class OutboxAfterCommitPublisher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(OutboxAfterCommitPublisher.class);
+
+  private final KafkaOutboxEventPublisher publisher;
+  private final OutboxEventJpaRepository repository;
+  private final Executor ackExecutor;
+
+  public OutboxAfterCommitPublisher(
+      final KafkaOutboxEventPublisher publisher,
+      final OutboxEventJpaRepository repository,
+      @Qualifier("outboxAckExecutor") final Executor ackExecutor) {
+    this.publisher = publisher;
+    this.repository = repository;
+    this.ackExecutor = ackExecutor;
+  }
+
+  public void publishAfterCommit(final OutboxEventEntity outboxEvent) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    var id = outboxEvent.getId();
+    var topic = outboxEvent.getTopic();
+    var key = outboxEvent.getMessageKey();
+    var payload = outboxEvent.wireBytes();
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            publish(id, topic, key, payload);
+          }
+        });
+  }
+
+  private void publish(final UUID id, final String topic, final String key, final byte[] payload) {
+    try {
+      publisher
+          .publish(topic, key, payload)
+          .whenCompleteAsync((result, exception) -> onAck(id, exception), ackExecutor);
+    } catch (RuntimeException ex) {
+      LOGGER.warn("Direct publish failed, leaving outbox event id={} for the relay", id, ex);
+    }
+  }
+
+  private void onAck(final UUID id, final Throwable exception) {
+    if (exception != null) {
+      LOGGER.warn("Direct publish not acknowledged, leaving outbox event id={} for the relay", id);
+      return;
+    }
+    try {
+      repository.markSentIfPending(id, OutboxEventStatus.SENT, OutboxEventStatus.PENDING);
+    } catch (RuntimeException ex) {
+      LOGGER.error("Failed to mark directly published outbox event id={} as sent", id, ex);
+    }
+  }
+}
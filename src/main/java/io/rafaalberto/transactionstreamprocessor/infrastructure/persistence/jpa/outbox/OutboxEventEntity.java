@@ -6,6 +6,7 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.UUID;
 import org.hibernate.annotations.JdbcTypeCode;
@@ -22,10 +23,16 @@ public class OutboxEventEntity {
   @Column(name = "topic", length = 255, nullable = false)
   private String topic;
 
+  @Column(name = "message_key", length = 255)
+  private String messageKey;
+
   @JdbcTypeCode(SqlTypes.JSON)
   @Column(columnDefinition = "jsonb", nullable = false)
   private String payload;
 
+  @Column(name = "wire_payload")
+  private byte[] wirePayload;
+
   @Enumerated(EnumType.STRING)
   @Column(name = "status", length = 32, nullable = false)
   private OutboxEventStatus status;
@@ -33,25 +40,44 @@ public class OutboxEventEntity {
   @Column(name = "created_at", nullable = false)
   private Instant createdAt;
 
+  @Column(name = "attempts", nullable = false)
+  private int attempts;
+
+  @Column(name = "next_attempt_at", nullable = false, insertable = false)
+  private Instant nextAttemptAt;
+
+  @Column(name = "last_error")
+  private String lastError;
+
   protected OutboxEventEntity() {}
 
   public OutboxEventEntity(
       final UUID id,
       final String topic,
+      final String messageKey,
+      final String payload,
+      final OutboxEventStatus status,
+      final Instant createdAt) {
+    this(id, topic, messageKey, payload, null, status, createdAt);
+  }
+
+  public OutboxEventEntity(
+      final UUID id,
+      final String topic,
+      final String messageKey,
       final String payload,
+      final byte[] wirePayload,
       final OutboxEventStatus status,
       final Instant createdAt) {
     this.id = id;
     this.topic = topic;
+    this.messageKey = messageKey;
     this.payload = payload;
+    this.wirePayload = wirePayload;
     this.status = status;
     this.createdAt = createdAt;
   }
 
-  public void markAsSent() {
-    this.status = OutboxEventStatus.SENT;
-  }
-
   public UUID getId() {
     return id;
   }
@@ -60,10 +86,22 @@ public class OutboxEventEntity {
     return topic;
   }
 
+  public String getMessageKey() {
+    return messageKey;
+  }
+
   public String getPayload() {
     return payload;
   }
 
+  public byte[] getWirePayload() {
+    return wirePayload;
+  }
+
+  public byte[] wireBytes() {
+    return wirePayload != null ? wirePayload : payload.getBytes(StandardCharsets.UTF_8);
+  }
+
   public OutboxEventStatus getStatus() {
     return status;
   }
@@ -71,4 +109,16 @@ public class OutboxEventEntity {
   public Instant getCreatedAt() {
     return createdAt;
   }
+
+  public int getAttempts() {
+    return attempts;
+  }
+
+  public Instant getNextAttemptAt() {
+    return nextAttemptAt;
+  }
+
+  public String getLastError() {
+    return lastError;
+  }
 }
@@ -1,16 +1,74 @@
 package io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox;
 
-import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventEntity, UUID> {
-  @Lock(LockModeType.PESSIMISTIC_WRITE)
   @Query(
-      "SELECT o FROM OutboxEventEntity o WHERE o.status = :status ORDER BY o.createdAt ASC LIMIT 100")
-  List<OutboxEventEntity> findPendingEvents(@Param("status") OutboxEventStatus status);
+      value = "SELECT pg_try_advisory_xact_lock(hashtext('outbox_relay_lane'), :lane)",
+      nativeQuery = true)
+  boolean tryLockLane(@Param("lane") int lane);
+
+  @Query(
+      value =
+          """
+          SELECT * FROM outbox_events pending
+          WHERE pending.status = 'PENDING'
+            AND pending.next_attempt_at <= now()
+            AND pending.created_at <= :claimBefore
+            AND (hashtext(coalesce(pending.message_key, pending.id::text)) & 2147483647) % :lanes
+                = :lane
+            AND NOT EXISTS (
+              SELECT 1 FROM outbox_events earlier
+              WHERE earlier.status = 'PENDING'
+                AND earlier.message_key = pending.message_key
+                AND earlier.created_at < pending.created_at
+                AND earlier.next_attempt_at > now())
+          ORDER BY created_at ASC, id ASC
+          LIMIT :limit
+          FOR UPDATE SKIP LOCKED
+          """,
+      nativeQuery = true)
+  List<OutboxEventEntity> claimPendingEvents(
+      @Param("lane") int lane,
+      @Param("lanes") int lanes,
+      @Param("limit") int limit,
+      @Param("claimBefore") Instant claimBefore);
+
+  @Modifying
+  @Query("UPDATE OutboxEventEntity o SET o.status = :status WHERE o.id IN :ids")
+  int updateStatus(@Param("ids") Collection<UUID> ids, @Param("status") OutboxEventStatus status);
+
+  @Transactional
+  @Modifying
+  @Query(
+      "UPDATE OutboxEventEntity o SET o.status = :sent WHERE o.id = :id AND o.status = :pending")
+  int markSentIfPending(
+      @Param("id") UUID id,
+      @Param("sent") OutboxEventStatus sent,
+      @Param("pending") OutboxEventStatus pending);
+
+  @Modifying
+  @Query(
+      """
+      UPDATE OutboxEventEntity o
+      SET o.attempts = :attempts,
+          o.nextAttemptAt = :nextAttemptAt,
+          o.lastError = :lastError,
+          o.status = :status
+      WHERE o.id = :id
+      """)
+  int recordFailure(
+      @Param("id") UUID id,
+      @Param("attempts") int attempts,
+      @Param("nextAttemptAt") Instant nextAttemptAt,
+      @Param("lastError") String lastError,
+      @Param("status") OutboxEventStatus status);
 }
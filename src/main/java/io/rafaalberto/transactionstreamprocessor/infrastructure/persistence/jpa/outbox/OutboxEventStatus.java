@@ -2,5 +2,6 @@ package io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa
 
 public enum OutboxEventStatus {
   PENDING,
-  SENT
+  SENT,
+  FAILED
 }
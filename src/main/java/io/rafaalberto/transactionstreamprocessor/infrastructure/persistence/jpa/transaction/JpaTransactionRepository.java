@@ -1,36 +1,96 @@
 package io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.transaction;
 
-import io.rafaalberto.transactionstreamprocessor.application.exception.DuplicateTransactionException;
 import io.rafaalberto.transactionstreamprocessor.application.repository.TransactionRepository;
 import io.rafaalberto.transactionstreamprocessor.domain.transaction.Transaction;
 import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionID;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import org.springframework.dao.DataIntegrityViolationException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class JpaTransactionRepository implements TransactionRepository {
 
+  private static final String INSERT_SQL =
+      """
+      INSERT INTO transactions
+        (id, amount, currency, account_id, status, type, occurred_at, created_at,
+         external_reference)
+      VALUES
+        (:id, :amount, :currency, :accountId, :status, :type, :occurredAt, :createdAt,
+         :externalReference)
+      """;
+
+  private static final String INSERT_IF_ABSENT_SQL =
+      INSERT_SQL
+          + """
+          ON CONFLICT (external_reference) DO NOTHING
+          RETURNING *
+          """;
+
+  private static final String INSERT_ALL_IF_ABSENT_SQL =
+      """
+      INSERT INTO transactions
+        (id, amount, currency, account_id, status, type, occurred_at, created_at,
+         external_reference)
+      SELECT * FROM unnest(
+        ?::uuid[], ?::numeric[], ?::varchar[], ?::uuid[], ?::varchar[], ?::varchar[],
+        ?::timestamptz[], ?::timestamptz[], ?::varchar[])
+      ON CONFLICT (external_reference) DO NOTHING
+      RETURNING *
+      """;
+
+  private static final String MARK_ONE_AS_PROCESSED_SQL =
+      """
+      UPDATE transactions
+      SET status = 'PROCESSED'
+      WHERE id = :id AND status = 'CREATED'
+      RETURNING *
+      """;
+
+  private static final String MARK_AS_PROCESSED_SQL =
+      """
+      UPDATE transactions
+      SET status = 'PROCESSED'
+      WHERE id IN (:ids) AND status = 'CREATED'
+      RETURNING id
+      """;
+
   private final TransactionJpaRepository jpaRepository;
   private final TransactionEntityMapper mapper;
+  private final NamedParameterJdbcTemplate jdbcTemplate;
 
   public JpaTransactionRepository(
-      final TransactionJpaRepository jpaRepository, final TransactionEntityMapper mapper) {
+      final TransactionJpaRepository jpaRepository,
+      final TransactionEntityMapper mapper,
+      final NamedParameterJdbcTemplate jdbcTemplate) {
     this.jpaRepository = jpaRepository;
     this.mapper = mapper;
+    this.jdbcTemplate = jdbcTemplate;
   }
 
+  // empty when the external reference already exists; no exception, so no aborted transaction
   @Override
-  public Transaction save(final Transaction transaction) {
+  public Optional<Transaction> insertIfAbsent(final Transaction transaction) {
     Objects.requireNonNull(transaction);
-    var entity = mapper.toEntity(transaction);
-    try {
-      var persisted = jpaRepository.saveAndFlush(entity);
-      return mapper.toDomain(persisted);
-    } catch (DataIntegrityViolationException ex) {
-      throw new DuplicateTransactionException();
-    }
+    return jdbcTemplate
+        .query(INSERT_IF_ABSENT_SQL, insertParameters(transaction), this::mapRow)
+        .stream()
+        .findFirst()
+        .map(mapper::toDomain);
   }
 
   @Override
@@ -42,4 +102,129 @@ public class JpaTransactionRepository implements TransactionRepository {
   public Optional<Transaction> findByExternalReference(final String externalReference) {
     return jpaRepository.findByExternalReference(externalReference).map(mapper::toDomain);
   }
+
+  @Override
+  public List<Transaction> findAllByExternalReference(
+      final Collection<String> externalReferences) {
+    if (externalReferences.isEmpty()) {
+      return List.of();
+    }
+    return jpaRepository.findAllByExternalReferenceIn(externalReferences).stream()
+        .map(mapper::toDomain)
+        .toList();
+  }
+
+  // One statement for the whole batch. Rows whose external reference already exists are skipped
+  // rather than raised, so the surrounding transaction stays usable; only inserted rows come back.
+  @Override
+  public List<Transaction> insertAllIfAbsent(final List<Transaction> transactions) {
+    if (transactions.isEmpty()) {
+      return List.of();
+    }
+    return jdbcTemplate
+        .getJdbcTemplate()
+        .query(connection -> insertAllStatement(connection, transactions), this::mapRow)
+        .stream()
+        .map(mapper::toDomain)
+        .toList();
+  }
+
+  @Override
+  public boolean existsById(final TransactionID id) {
+    return jpaRepository.existsById(id.value());
+  }
+
+  @Override
+  public Optional<Transaction> markAsProcessedIfCreated(final TransactionID id) {
+    return jdbcTemplate
+        .query(MARK_ONE_AS_PROCESSED_SQL, Map.of("id", id.value()), this::mapRow)
+        .stream()
+        .findFirst()
+        .map(mapper::toDomain);
+  }
+
+  @Override
+  public List<Transaction> findAllById(final Collection<TransactionID> ids) {
+    var uuids = ids.stream().map(TransactionID::value).toList();
+    return jpaRepository.findAllById(uuids).stream().map(mapper::toDomain).toList();
+  }
+
+  @Override
+  public Set<TransactionID> markAsProcessed(final Collection<TransactionID> ids) {
+    if (ids.isEmpty()) {
+      return Set.of();
+    }
+    var uuids = ids.stream().map(TransactionID::value).toList();
+    var processed =
+        jdbcTemplate.queryForList(MARK_AS_PROCESSED_SQL, Map.of("ids", uuids), UUID.class);
+    return processed.stream().map(TransactionID::new).collect(Collectors.toSet());
+  }
+
+  private MapSqlParameterSource insertParameters(final Transaction transaction) {
+    return new MapSqlParameterSource()
+        .addValue("id", transaction.id().value())
+        .addValue("amount", transaction.money().amount())
+        .addValue("currency", transaction.money().currency().name())
+        .addValue("accountId", transaction.accountId().value())
+        .addValue("status", transaction.status().name())
+        .addValue("type", transaction.type().name())
+        .addValue("occurredAt", Timestamp.from(transaction.occurredAt()))
+        .addValue("createdAt", Timestamp.from(transaction.createdAt()))
+        .addValue("externalReference", transaction.externalReference());
+  }
+
+  private static PreparedStatement insertAllStatement(
+      final Connection connection, final List<Transaction> transactions) throws SQLException {
+    var statement = connection.prepareStatement(INSERT_ALL_IF_ABSENT_SQL);
+    setArray(statement, 1, "uuid", transactions, transaction -> transaction.id().value());
+    setArray(statement, 2, "numeric", transactions, transaction -> transaction.money().amount());
+    setArray(
+        statement,
+        3,
+        "varchar",
+        transactions,
+        transaction -> transaction.money().currency().name());
+    setArray(statement, 4, "uuid", transactions, transaction -> transaction.accountId().value());
+    setArray(statement, 5, "varchar", transactions, transaction -> transaction.status().name());
+    setArray(statement, 6, "varchar", transactions, transaction -> transaction.type().name());
+    setArray(
+        statement,
+        7,
+        "timestamptz",
+        transactions,
+        transaction -> Timestamp.from(transaction.occurredAt()));
+    setArray(
+        statement,
+        8,
+        "timestamptz",
+        transactions,
+        transaction -> Timestamp.from(transaction.createdAt()));
+    setArray(statement, 9, "varchar", transactions, Transaction::externalReference);
+    return statement;
+  }
+
+  private static void setArray(
+      final PreparedStatement statement,
+      final int index,
+      final String type,
+      final List<Transaction> transactions,
+      final Function<Transaction, Object> column)
+      throws SQLException {
+    var values = transactions.stream().map(column).toArray();
+    statement.setArray(index, statement.getConnection().createArrayOf(type, values));
+  }
+
+  private TransactionEntity mapRow(final ResultSet resultSet, final int rowNum)
+      throws SQLException {
+    return new TransactionEntity(
+        resultSet.getObject("id", UUID.class),
+        resultSet.getBigDecimal("amount"),
+        resultSet.getString("currency"),
+        resultSet.getObject("account_id", UUID.class),
+        resultSet.getString("status"),
+        resultSet.getString("type"),
+        resultSet.getTimestamp("occurred_at").toInstant(),
+        resultSet.getTimestamp("created_at").toInstant(),
+        resultSet.getString("external_reference"));
+  }
 }
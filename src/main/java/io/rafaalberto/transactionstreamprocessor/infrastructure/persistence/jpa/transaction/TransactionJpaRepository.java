@@ -1,9 +1,13 @@
 package io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.transaction;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface TransactionJpaRepository extends JpaRepository<TransactionEntity, UUID> {
   Optional<TransactionEntity> findByExternalReference(String externalReference);
+
+  List<TransactionEntity> findAllByExternalReferenceIn(Collection<String> externalReferences);
 }
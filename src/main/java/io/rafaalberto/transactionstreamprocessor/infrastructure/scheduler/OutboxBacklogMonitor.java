@@ -0,0 +1,48 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.scheduler;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OutboxBacklogMonitor {
+
+  private static final String BACKLOG_SQL =
+      "SELECT count(*), min(created_at) FROM outbox_events WHERE status = 'PENDING'";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final AtomicLong pending = new AtomicLong();
+  private final AtomicLong oldestPendingAgeMs = new AtomicLong();
+
+  public OutboxBacklogMonitor(final JdbcTemplate jdbcTemplate, final MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    Gauge.builder("outbox.pending", pending, AtomicLong::get)
+        .description("Outbox events waiting to be relayed")
+        .baseUnit("events")
+        .register(meterRegistry);
+    Gauge.builder("outbox.pending.oldest.age", oldestPendingAgeMs, AtomicLong::get)
+        .description("Age of the oldest outbox event waiting to be relayed")
+        .baseUnit("milliseconds")
+        .register(meterRegistry);
+  }
+
+  @Scheduled(fixedDelayString = "${outbox.metrics.sample-interval-ms:15000}")
+  public void sample() {
+    jdbcTemplate.query(
+        BACKLOG_SQL,
+        resultSet -> {
+          pending.set(resultSet.getLong(1));
+          oldestPendingAgeMs.set(ageMs(resultSet.getTimestamp(2)));
+        });
+  }
+
+  private static long ageMs(final Timestamp oldest) {
+    return oldest == null ? 0 : Duration.between(oldest.toInstant(), Instant.now()).toMillis();
+  }
+}
@@ -0,0 +1,109 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.scheduler;
+
+import io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox.JpaOutboxEventAppender;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Properties;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "outbox.notify.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxNotificationListener implements SmartLifecycle {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(OutboxNotificationListener.class);
+
+  private final String url;
+  private final Properties connectionProperties = new Properties();
+  private final OutboxScheduler outboxScheduler;
+  private final int pollTimeoutMs;
+  private final long reconnectDelayMs;
+
+  private volatile boolean running;
+  private Thread listenerThread;
+
+  public OutboxNotificationListener(
+      @Value("${spring.datasource.url}") final String url,
+      @Value("${spring.datasource.username:}") final String username,
+      @Value("${spring.datasource.password:}") final String password,
+      final OutboxScheduler outboxScheduler,
+      @Value("${outbox.notify.poll-timeout-ms:500}") final int pollTimeoutMs,
+      @Value("${outbox.notify.reconnect-delay-ms:5000}") final long reconnectDelayMs) {
+    this.url = url;
+    connectionProperties.setProperty("user", username);
+    connectionProperties.setProperty("password", password);
+    connectionProperties.setProperty("ApplicationName", "outbox-notify");
+    this.outboxScheduler = outboxScheduler;
+    this.pollTimeoutMs = pollTimeoutMs;
+    this.reconnectDelayMs = reconnectDelayMs;
+  }
+
+  @Override
+  public void start() {
+    running = true;
+    listenerThread = Thread.ofPlatform().name("outbox-notify").daemon().start(this::listen);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    if (listenerThread != null) {
+      listenerThread.interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  // LISTEN holds its connection for as long as it runs, so it is opened outside the Hikari pool:
+  // it would otherwise take a pooled connection for good and shrink what the pool sizing assumes.
+  private void listen() {
+    while (running) {
+      try (Connection connection = DriverManager.getConnection(url, connectionProperties)) {
+        connection.setAutoCommit(true);
+        try (var statement = connection.createStatement()) {
+          statement.execute("LISTEN " + JpaOutboxEventAppender.NOTIFY_CHANNEL);
+        }
+        var pgConnection = connection.unwrap(PGConnection.class);
+        // a relay pass right after (re)connecting covers anything committed while not listening
+        relay();
+        while (running) {
+          var notifications = pgConnection.getNotifications(pollTimeoutMs);
+          if (notifications != null && notifications.length > 0) {
+            relay();
+          }
+        }
+      } catch (SQLException ex) {
+        if (running) {
+          LOGGER.warn("Outbox notification listener disconnected, retrying", ex);
+          pause();
+        }
+      }
+    }
+  }
+
+  private void relay() {
+    try {
+      outboxScheduler.relay();
+    } catch (RuntimeException ex) {
+      LOGGER.error("Outbox relay triggered by notification failed", ex);
+    }
+  }
+
+  private void pause() {
+    try {
+      Thread.sleep(reconnectDelayMs);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      running = false;
+    }
+  }
+}
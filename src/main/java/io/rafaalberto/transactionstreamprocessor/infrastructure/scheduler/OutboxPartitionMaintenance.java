@@ -0,0 +1,253 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.scheduler;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class OutboxPartitionMaintenance implements SmartInitializingSingleton {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(OutboxPartitionMaintenance.class);
+
+  private static final String PARENT_TABLE = "outbox_events";
+  private static final String DEAD_TABLE = "outbox_events_dead";
+  private static final String PARTITION_PREFIX = PARENT_TABLE + "_p";
+  private static final Pattern PARTITION_NAME =
+      Pattern.compile(Pattern.quote(PARTITION_PREFIX) + "\\d{8}");
+  private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+
+  private static final String LOCK_SQL =
+      "SELECT pg_try_advisory_xact_lock(hashtext('outbox_events_partition_maintenance'))";
+
+  private static final String WAIT_LOCK_SQL =
+      "SELECT pg_advisory_xact_lock(hashtext('outbox_events_partition_maintenance'))";
+
+  private static final String PARTITIONS_SQL =
+      """
+      SELECT child.relname
+      FROM pg_inherits inheritance
+      JOIN pg_class parent ON parent.oid = inheritance.inhparent
+      JOIN pg_class child ON child.oid = inheritance.inhrelid
+      WHERE parent.relname = ?
+      """;
+
+  private static final String DETACH_PENDING_SQL =
+      """
+      SELECT child.relname
+      FROM pg_inherits inheritance
+      JOIN pg_class parent ON parent.oid = inheritance.inhparent
+      JOIN pg_class child ON child.oid = inheritance.inhrelid
+      WHERE parent.relname = ? AND inheritance.inhdetachpending
+      """;
+
+  private static final String UNSENT_SQL =
+      """
+      SELECT count(*) FILTER (WHERE status = 'PENDING') AS pending,
+             count(*) FILTER (WHERE status = 'FAILED') AS failed
+      FROM %s
+      """;
+
+  private static final String ARCHIVE_FAILED_SQL =
+      """
+      WITH moved AS (
+        DELETE FROM %s WHERE status = 'FAILED'
+        RETURNING id, topic, message_key, payload, wire_payload, created_at, attempts, last_error)
+      INSERT INTO %s
+        (id, topic, message_key, payload, wire_payload, created_at, attempts, last_error,
+         archived_at)
+      SELECT id, topic, message_key, payload, wire_payload, created_at, attempts, last_error, now()
+      FROM moved
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final int retentionDays;
+  private final int failedRetentionDays;
+  private final int premakeDays;
+  private final AtomicReference<LocalDate> coveredUntil = new AtomicReference<>(LocalDate.EPOCH);
+
+  public OutboxPartitionMaintenance(
+      final JdbcTemplate jdbcTemplate,
+      final PlatformTransactionManager transactionManager,
+      final MeterRegistry meterRegistry,
+      @Value("${outbox.partition.retention-days:7}") final int retentionDays,
+      @Value("${outbox.partition.failed-retention-days:30}") final int failedRetentionDays,
+      @Value("${outbox.partition.premake-days:3}") final int premakeDays) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.retentionDays = retentionDays;
+    this.failedRetentionDays = Math.max(retentionDays, failedRetentionDays);
+    this.premakeDays = premakeDays;
+    Gauge.builder("outbox.partition.days-ahead", this, state -> state.daysAhead())
+        .description("Days from today covered by outbox partitions; inserts fail past them")
+        .baseUnit("days")
+        .register(meterRegistry);
+  }
+
+  // There is no default partition to catch inserts, so the partitions are created before the web
+  // server, the listeners and the scheduled tasks start, waiting for another instance doing it.
+  @Override
+  public void afterSingletonsInstantiated() {
+    var today = LocalDate.now(ZoneOffset.UTC);
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          jdbcTemplate.execute(WAIT_LOCK_SQL);
+          premake(today);
+        });
+    recordCoverage(today);
+  }
+
+  @Scheduled(
+      initialDelayString = "${outbox.partition.maintenance-interval-ms:3600000}",
+      fixedDelayString = "${outbox.partition.maintenance-interval-ms:3600000}")
+  public void maintain() {
+    maintain(LocalDate.now(ZoneOffset.UTC));
+  }
+
+  // Creating partitions and archiving FAILED rows run in one locked transaction. Detaching cannot:
+  // DETACH PARTITION ... CONCURRENTLY refuses to run inside a transaction block.
+  public void maintain(final LocalDate today) {
+    var droppable = transactionTemplate.execute(status -> prepare(today));
+    recordCoverage(today);
+    if (droppable != null) {
+      droppable.forEach(this::detachAndDrop);
+    }
+  }
+
+  private List<String> prepare(final LocalDate today) {
+    if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK_SQL, Boolean.class))) {
+      LOGGER.debug("Outbox partition maintenance already running elsewhere, skipping");
+      return List.of();
+    }
+    premake(today);
+    // a detach interrupted on an earlier run is finished before anything else
+    var droppable =
+        new ArrayList<>(
+            jdbcTemplate.queryForList(DETACH_PENDING_SQL, String.class, PARENT_TABLE));
+    var cutoff = today.minusDays(retentionDays);
+    var failedCutoff = today.minusDays(failedRetentionDays);
+    jdbcTemplate.queryForList(PARTITIONS_SQL, String.class, PARENT_TABLE).stream()
+        .filter(partition -> PARTITION_NAME.matcher(partition).matches())
+        .filter(partition -> !droppable.contains(partition))
+        .filter(partition -> partitionDay(partition).isBefore(cutoff))
+        .filter(partition -> isDroppable(partition, failedCutoff))
+        .forEach(droppable::add);
+    return droppable;
+  }
+
+  private void premake(final LocalDate today) {
+    for (int offset = 0; offset <= premakeDays; offset++) {
+      createPartition(today.plusDays(offset));
+    }
+  }
+
+  // Read on every run, also when another instance holds the lock, so the gauge falls only when no
+  // instance keeps the partitions ahead of today.
+  private void recordCoverage(final LocalDate today) {
+    jdbcTemplate.queryForList(PARTITIONS_SQL, String.class, PARENT_TABLE).stream()
+        .filter(partition -> PARTITION_NAME.matcher(partition).matches())
+        .map(OutboxPartitionMaintenance::partitionDay)
+        .max(Comparator.naturalOrder())
+        .ifPresent(day -> coveredUntil.set(day.plusDays(1)));
+    if (!coveredUntil.get().isAfter(today.plusDays(1))) {
+      LOGGER.error(
+          "Outbox partitions run out soon, inserts will fail after them. coveredUntil={}",
+          coveredUntil.get());
+    }
+  }
+
+  private long daysAhead() {
+    return Math.max(
+        0, ChronoUnit.DAYS.between(LocalDate.now(ZoneOffset.UTC), coveredUntil.get()));
+  }
+
+  private void createPartition(final LocalDate day) {
+    var partition = PARTITION_PREFIX + PARTITION_SUFFIX.format(day);
+    jdbcTemplate.execute(
+        "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')"
+            .formatted(
+                partition,
+                PARENT_TABLE,
+                day.atStartOfDay(ZoneOffset.UTC).toOffsetDateTime(),
+                day.plusDays(1).atStartOfDay(ZoneOffset.UTC).toOffsetDateTime()));
+  }
+
+  private boolean isDroppable(final String partition, final LocalDate failedCutoff) {
+    if (partitionDay(partition).isBefore(failedCutoff)) {
+      var archived = jdbcTemplate.update(ARCHIVE_FAILED_SQL.formatted(partition, DEAD_TABLE));
+      if (archived > 0) {
+        LOGGER.info(
+            "Archived FAILED outbox events. partition={}, table={}, events={}",
+            partition,
+            DEAD_TABLE,
+            archived);
+      }
+    }
+    var unsent = jdbcTemplate.queryForMap(UNSENT_SQL.formatted(partition));
+    var pending = ((Number) unsent.get("pending")).longValue();
+    var failed = ((Number) unsent.get("failed")).longValue();
+    if (pending > 0) {
+      LOGGER.warn(
+          "Keeping expired outbox partition with pending events. partition={}, pending={}",
+          partition,
+          pending);
+      return false;
+    }
+    if (failed > 0) {
+      LOGGER.debug(
+          "Keeping expired outbox partition until its FAILED events are archived. partition={}",
+          partition);
+      return false;
+    }
+    return true;
+  }
+
+  private void detachAndDrop(final String partition) {
+    try {
+      var detach = detachSql(partition);
+      jdbcTemplate.execute(
+          (ConnectionCallback<Void>)
+              connection -> {
+                try (var statement = connection.createStatement()) {
+                  statement.execute(detach);
+                  statement.execute("DROP TABLE " + partition);
+                }
+                return null;
+              });
+      LOGGER.info("Dropped expired outbox partition. partition={}", partition);
+    } catch (DataAccessException ex) {
+      // e.g. another instance detached it first; a half-done detach is finalized next run
+      LOGGER.warn("Could not drop expired outbox partition. partition={}", partition, ex);
+    }
+  }
+
+  private String detachSql(final String partition) {
+    var detachPending =
+        jdbcTemplate.queryForList(DETACH_PENDING_SQL, String.class, PARENT_TABLE);
+    var mode = detachPending.contains(partition) ? "FINALIZE" : "CONCURRENTLY";
+    return "ALTER TABLE %s DETACH PARTITION %s %s".formatted(PARENT_TABLE, partition, mode);
+  }
+
+  private static LocalDate partitionDay(final String partition) {
+    return LocalDate.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+  }
+}
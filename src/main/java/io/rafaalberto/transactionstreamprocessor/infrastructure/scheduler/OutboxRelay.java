@@ -0,0 +1,167 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.scheduler;
+
+import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.publisher.KafkaOutboxEventPublisher;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox.OutboxEventEntity;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox.OutboxEventJpaRepository;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox.OutboxEventStatus;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class OutboxRelay {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(OutboxRelay.class);
+
+  private static final int MAX_ERROR_LENGTH = 2000;
+
+  private final OutboxEventJpaRepository repository;
+  private final KafkaOutboxEventPublisher publisher;
+  private final OutboxRetryPolicy retryPolicy;
+  private final OutboxRelayMetrics metrics;
+  private final long ackTimeoutMs;
+  private final Duration sweepGrace;
+
+  public OutboxRelay(
+      final OutboxEventJpaRepository repository,
+      final KafkaOutboxEventPublisher publisher,
+      final OutboxRetryPolicy retryPolicy,
+      final OutboxRelayMetrics metrics,
+      @Value("${outbox.relay.ack-timeout-ms:10000}") final long ackTimeoutMs,
+      @Value("${outbox.direct-publish.enabled:false}") final boolean directPublishEnabled,
+      @Value("${outbox.direct-publish.sweep-grace-ms:5000}") final long sweepGraceMs) {
+    this.repository = repository;
+    this.publisher = publisher;
+    this.retryPolicy = retryPolicy;
+    this.metrics = metrics;
+    this.ackTimeoutMs = ackTimeoutMs;
+    this.sweepGrace = directPublishEnabled ? Duration.ofMillis(sweepGraceMs) : Duration.ZERO;
+  }
+
+  // Empty when another relay, in this JVM or another instance, holds the lane.
+  @Transactional
+  public OptionalInt relayBatch(final int lane, final int lanes, final int batchSize) {
+    if (!repository.tryLockLane(lane)) {
+      return OptionalInt.empty();
+    }
+    var start = System.nanoTime();
+    var claimed =
+        repository.claimPendingEvents(lane, lanes, batchSize, Instant.now().minus(sweepGrace));
+    if (claimed.isEmpty()) {
+      return OptionalInt.of(0);
+    }
+    var sends = sendInKeyOrder(claimed);
+    var acknowledged = awaitAcknowledged(sends);
+    if (!acknowledged.isEmpty()) {
+      repository.updateStatus(acknowledged, OutboxEventStatus.SENT);
+    }
+    metrics.recordBatch(claimed.size(), acknowledged.size(), System.nanoTime() - start);
+    return OptionalInt.of(claimed.size());
+  }
+
+  // Once a send of a key has failed, later events of that key are not sent in this batch: they stay
+  // PENDING without an attempt, and the claim skips them while the failed one backs off. Sends
+  // already handed to the producer cannot be taken back, so an ack is always marked SENT.
+  private Map<OutboxEventEntity, CompletableFuture<Void>> sendInKeyOrder(
+      final List<OutboxEventEntity> claimed) {
+    var sends = new LinkedHashMap<OutboxEventEntity, CompletableFuture<Void>>();
+    var failedKeys = ConcurrentHashMap.<String>newKeySet();
+    for (var outboxEvent : claimed) {
+      var key = orderingKey(outboxEvent);
+      if (failedKeys.contains(key)) {
+        LOGGER.debug("Holding back outbox event after a failed send. id={}", outboxEvent.getId());
+        continue;
+      }
+      var future = send(outboxEvent);
+      future.whenComplete(
+          (ignored, exception) -> {
+            if (exception != null) {
+              failedKeys.add(key);
+            }
+          });
+      sends.put(outboxEvent, future);
+    }
+    return sends;
+  }
+
+  private CompletableFuture<Void> send(final OutboxEventEntity outboxEvent) {
+    try {
+      return publisher.publish(
+          outboxEvent.getTopic(), outboxEvent.getMessageKey(), outboxEvent.wireBytes());
+    } catch (Exception ex) {
+      return CompletableFuture.failedFuture(ex);
+    }
+  }
+
+  private List<UUID> awaitAcknowledged(
+      final Map<OutboxEventEntity, CompletableFuture<Void>> sends) {
+    var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ackTimeoutMs);
+    var acknowledged = new ArrayList<UUID>(sends.size());
+    sends.forEach(
+        (outboxEvent, future) -> {
+          if (awaitAck(outboxEvent, future, deadline)) {
+            acknowledged.add(outboxEvent.getId());
+          }
+        });
+    return acknowledged;
+  }
+
+  private boolean awaitAck(
+      final OutboxEventEntity outboxEvent,
+      final CompletableFuture<Void> future,
+      final long deadline) {
+    try {
+      future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      return true;
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      LOGGER.warn("Interrupted while awaiting ack for outbox event id={}", outboxEvent.getId());
+    } catch (ExecutionException ex) {
+      recordFailure(outboxEvent, ex.getCause() != null ? ex.getCause() : ex);
+    } catch (TimeoutException ex) {
+      recordFailure(outboxEvent, ex);
+    }
+    return false;
+  }
+
+  private void recordFailure(final OutboxEventEntity outboxEvent, final Throwable cause) {
+    var attempts = outboxEvent.getAttempts() + 1;
+    var status =
+        retryPolicy.isExhausted(attempts) ? OutboxEventStatus.FAILED : OutboxEventStatus.PENDING;
+    var lastError = String.valueOf(cause);
+    repository.recordFailure(
+        outboxEvent.getId(),
+        attempts,
+        retryPolicy.nextAttemptAt(attempts, Instant.now()),
+        lastError.substring(0, Math.min(lastError.length(), MAX_ERROR_LENGTH)),
+        status);
+    metrics.recordFailure();
+    LOGGER.error(
+        "Failed to relay outbox event id={}, attempts={}, status={}",
+        outboxEvent.getId(),
+        attempts,
+        status,
+        cause);
+  }
+
+  private static String orderingKey(final OutboxEventEntity outboxEvent) {
+    return outboxEvent.getMessageKey() != null
+        ? outboxEvent.getMessageKey()
+        : outboxEvent.getId().toString();
+  }
+}
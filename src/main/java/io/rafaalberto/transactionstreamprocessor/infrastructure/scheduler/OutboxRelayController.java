@@ -0,0 +1,64 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.scheduler;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OutboxRelayController {
+
+  private static final long IDLE_BACKOFF_START_MS = 100;
+
+  private final int minBatchSize;
+  private final int maxBatchSize;
+  private final long minDelayMs;
+  private final long maxDelayMs;
+
+  private int batchSize;
+  private long delayMs;
+
+  public OutboxRelayController(
+      @Value("${outbox.relay.batch-size:100}") final int initialBatchSize,
+      @Value("${outbox.relay.adaptive.min-batch-size:10}") final int minBatchSize,
+      @Value("${outbox.relay.adaptive.max-batch-size:1000}") final int maxBatchSize,
+      @Value("${outbox.relay.adaptive.min-delay-ms:0}") final long minDelayMs,
+      @Value("${outbox.fixed-delay-ms:10000}") final long maxDelayMs,
+      final MeterRegistry meterRegistry) {
+    this.minBatchSize = minBatchSize;
+    this.maxBatchSize = maxBatchSize;
+    this.minDelayMs = minDelayMs;
+    this.maxDelayMs = maxDelayMs;
+    this.batchSize = Math.clamp(initialBatchSize, minBatchSize, maxBatchSize);
+    this.delayMs = minDelayMs;
+    Gauge.builder("outbox.relay.adaptive.batch.size", this, OutboxRelayController::batchSize)
+        .description("Batch size the relay currently claims per lane")
+        .baseUnit("events")
+        .register(meterRegistry);
+    Gauge.builder("outbox.relay.adaptive.delay", this, controller -> controller.delay().toMillis())
+        .description("Delay before the next relay cycle")
+        .baseUnit("milliseconds")
+        .register(meterRegistry);
+  }
+
+  public synchronized int batchSize() {
+    return batchSize;
+  }
+
+  public synchronized Duration delay() {
+    return Duration.ofMillis(delayMs);
+  }
+
+  public synchronized void onCycle(final int claimed, final int batchSizeUsed, final int lanes) {
+    if (claimed >= batchSizeUsed * lanes) {
+      batchSize = Math.min(maxBatchSize, batchSize * 2);
+      delayMs = minDelayMs;
+    } else if (claimed == 0) {
+      batchSize = Math.max(minBatchSize, batchSize / 2);
+      delayMs = Math.clamp(Math.max(delayMs * 2, IDLE_BACKOFF_START_MS), minDelayMs, maxDelayMs);
+    } else {
+      delayMs = minDelayMs;
+    }
+  }
+}
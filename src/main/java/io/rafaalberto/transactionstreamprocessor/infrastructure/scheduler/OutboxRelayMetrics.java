@@ -0,0 +1,50 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OutboxRelayMetrics {
+
+  private final Timer batchDuration;
+  private final DistributionSummary batchSize;
+  private final Counter relayed;
+  private final Counter failures;
+
+  public OutboxRelayMetrics(final MeterRegistry meterRegistry) {
+    this.batchDuration =
+        Timer.builder("outbox.relay.batch.duration")
+            .description("Time to claim, publish and acknowledge one outbox batch")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    this.batchSize =
+        DistributionSummary.builder("outbox.relay.batch.size")
+            .description("Outbox events claimed per batch")
+            .baseUnit("events")
+            .register(meterRegistry);
+    this.relayed =
+        Counter.builder("outbox.relay.events.relayed")
+            .description("Outbox events acknowledged by the broker and marked as sent")
+            .baseUnit("events")
+            .register(meterRegistry);
+    this.failures =
+        Counter.builder("outbox.relay.publish.failures")
+            .description("Outbox events the broker failed to acknowledge")
+            .baseUnit("events")
+            .register(meterRegistry);
+  }
+
+  public void recordBatch(final int claimed, final int acknowledged, final long elapsedNanos) {
+    batchDuration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    batchSize.record(claimed);
+    relayed.increment(acknowledged);
+  }
+
+  public void recordFailure() {
+    failures.increment();
+  }
+}
@@ -0,0 +1,33 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OutboxRetryPolicy {
+
+  private final int maxAttempts;
+  private final Duration baseDelay;
+  private final Duration maxDelay;
+
+  public OutboxRetryPolicy(
+      @Value("${outbox.relay.retry.max-attempts:10}") final int maxAttempts,
+      @Value("${outbox.relay.retry.base-delay-ms:1000}") final long baseDelayMs,
+      @Value("${outbox.relay.retry.max-delay-ms:300000}") final long maxDelayMs) {
+    this.maxAttempts = maxAttempts;
+    this.baseDelay = Duration.ofMillis(baseDelayMs);
+    this.maxDelay = Duration.ofMillis(maxDelayMs);
+  }
+
+  public boolean isExhausted(final int attempts) {
+    return attempts >= maxAttempts;
+  }
+
+  public Instant nextAttemptAt(final int attempts, final Instant now) {
+    var exponent = Math.min(Math.max(attempts - 1, 0), 30);
+    var delay = baseDelay.multipliedBy(1L << exponent);
+    return now.plus(delay.compareTo(maxDelay) > 0 ? maxDelay : delay);
+  }
+}
@@ -1,49 +1,102 @@
 package io.rafaalberto.transactionstreamprocessor.infrastructure.scheduler;
 
-import io.rafaalberto.transactionstreamprocessor.application.events.TransactionCreatedEvent;
-import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.publisher.KafkaTransactionEventPublisher;
-import io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox.OutboxEventJpaRepository;
-import io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox.OutboxEventStatus;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Scheduled;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-import tools.jackson.databind.ObjectMapper;
 
 @Component
-public class OutboxScheduler {
+public class OutboxScheduler implements SchedulingConfigurer {
 
-  private static final Logger LOGGER = LoggerFactory.getLogger(OutboxScheduler.class);
-
-  private final OutboxEventJpaRepository repository;
-  private final KafkaTransactionEventPublisher publisher;
-  private final ObjectMapper objectMapper;
+  private final OutboxRelay relay;
+  private final OutboxRelayController controller;
+  private final Executor executor;
+  private final int workers;
+  private final int lanes;
+  private final AtomicBoolean passRunning = new AtomicBoolean();
+  private final AtomicBoolean passRequested = new AtomicBoolean();
 
   public OutboxScheduler(
-      final OutboxEventJpaRepository repository,
-      final KafkaTransactionEventPublisher publisher,
-      final ObjectMapper objectMapper) {
-    this.repository = repository;
-    this.publisher = publisher;
-    this.objectMapper = objectMapper;
+      final OutboxRelay relay,
+      final OutboxRelayController controller,
+      @Qualifier("outboxRelayExecutor") final Executor executor,
+      @Value("${outbox.relay.workers:2}") final int workers,
+      @Value("${outbox.relay.lanes:16}") final int lanes) {
+    this.relay = relay;
+    this.controller = controller;
+    this.executor = executor;
+    this.workers = Math.min(workers, lanes);
+    this.lanes = lanes;
   }
 
-  @Scheduled(fixedDelayString = "${outbox.fixed-delay-ms:1000}")
-  @Transactional
-  public void relay() {
-    var pending = repository.findPendingEvents(OutboxEventStatus.PENDING);
-    pending.forEach(
-        outboxEvent -> {
-          try {
-            var transactionEvent =
-                objectMapper.readValue(outboxEvent.getPayload(), TransactionCreatedEvent.class);
-            publisher.publish(transactionEvent);
-            outboxEvent.markAsSent();
-            repository.save(outboxEvent);
-          } catch (Exception ex) {
-            LOGGER.error("Failed to relay outbox event id={}", outboxEvent.getId(), ex);
-          }
+  @Override
+  public void configureTasks(final ScheduledTaskRegistrar registrar) {
+    registrar.addTriggerTask(
+        this::relay,
+        context -> {
+          var lastCompletion = context.lastCompletion();
+          return lastCompletion == null
+              ? Instant.now()
+              : lastCompletion.plus(controller.delay());
         });
   }
+
+  // The scheduled trigger and NOTIFY wakeups share one pass at a time. A call that arrives while a
+  // pass is running only asks for another pass, so the two never race for this instance's own
+  // lane locks and the controller never sees a lane lost to ourselves as idle.
+  public void relay() {
+    passRequested.set(true);
+    while (passRequested.get() && passRunning.compareAndSet(false, true)) {
+      try {
+        passRequested.set(false);
+        relayPass();
+      } finally {
+        passRunning.set(false);
+      }
+    }
+  }
+
+  // Lanes are cluster-wide, so every instance walks all of them and skips the ones another relay
+  // holds. Starting at a random lane keeps instances from queueing on the same locks.
+  private void relayPass() {
+    var batchSize = controller.batchSize();
+    var next = new AtomicInteger();
+    var offset = ThreadLocalRandom.current().nextInt(lanes);
+    var passes =
+        IntStream.range(0, workers)
+            .mapToObj(
+                worker ->
+                    CompletableFuture.supplyAsync(
+                        () -> relayLanes(next, offset, batchSize), executor))
+            .toList();
+    CompletableFuture.allOf(passes.toArray(CompletableFuture[]::new)).join();
+    var claimed = passes.stream().mapToInt(pass -> pass.join().claimed()).sum();
+    var locked = passes.stream().mapToInt(pass -> pass.join().locked()).sum();
+    if (locked > 0) {
+      controller.onCycle(claimed, batchSize, locked);
+    }
+  }
+
+  private Pass relayLanes(final AtomicInteger next, final int offset, final int batchSize) {
+    var claimed = 0;
+    var locked = 0;
+    for (var index = next.getAndIncrement(); index < lanes; index = next.getAndIncrement()) {
+      var result = relay.relayBatch((offset + index) % lanes, lanes, batchSize);
+      if (result.isPresent()) {
+        claimed += result.getAsInt();
+        locked++;
+      }
+    }
+    return new Pass(claimed, locked);
+  }
+
+  private record Pass(int claimed, int locked) {}
 }
@@ -0,0 +1,24 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.service;
+
+import io.rafaalberto.transactionstreamprocessor.application.usecases.CreateTransactionBatchUseCase;
+import io.rafaalberto.transactionstreamprocessor.application.usecases.CreateTransactionCommand;
+import io.rafaalberto.transactionstreamprocessor.application.usecases.CreateTransactionResult;
+import java.util.List;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class CreateTransactionBatchService {
+
+  private final CreateTransactionBatchUseCase createTransactionBatchUseCase;
+
+  public CreateTransactionBatchService(
+      final CreateTransactionBatchUseCase createTransactionBatchUseCase) {
+    this.createTransactionBatchUseCase = createTransactionBatchUseCase;
+  }
+
+  @Transactional
+  public List<CreateTransactionResult> execute(final List<CreateTransactionCommand> commands) {
+    return createTransactionBatchUseCase.execute(commands);
+  }
+}
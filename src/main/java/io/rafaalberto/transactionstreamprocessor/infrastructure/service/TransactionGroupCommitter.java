@@ -0,0 +1,200 @@
+package io.rafaalberto.transactionstreamprocessor.infrastructure.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.rafaalberto.transactionstreamprocessor.application.usecases.CreateTransactionCommand;
+import io.rafaalberto.transactionstreamprocessor.application.usecases.CreateTransactionResult;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Transaction;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.exception.InvalidTransactionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+@Service
+@ConditionalOnProperty(name = "transactions.group-commit.enabled", havingValue = "true")
+public class TransactionGroupCommitter implements SmartLifecycle {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TransactionGroupCommitter.class);
+
+  private static final long IDLE_POLL_MS = 100;
+
+  private final CreateTransactionBatchService createTransactionBatchService;
+  private final CreateTransactionService createTransactionService;
+  private final int maxBatchSize;
+  private final long maxDelayNanos;
+  private final long submitTimeoutMs;
+  private final BlockingQueue<Pending> queue;
+  private final DistributionSummary groupSize;
+
+  private volatile boolean running;
+  private volatile Thread writerThread;
+
+  public TransactionGroupCommitter(
+      final CreateTransactionBatchService createTransactionBatchService,
+      final CreateTransactionService createTransactionService,
+      final MeterRegistry meterRegistry,
+      @Value("${transactions.group-commit.max-batch-size:200}") final int maxBatchSize,
+      @Value("${transactions.group-commit.max-delay-ms:2}") final long maxDelayMs,
+      @Value("${transactions.group-commit.queue-capacity:10000}") final int queueCapacity,
+      @Value("${transactions.group-commit.submit-timeout-ms:5000}") final long submitTimeoutMs) {
+    this.createTransactionBatchService = createTransactionBatchService;
+    this.createTransactionService = createTransactionService;
+    this.maxBatchSize = maxBatchSize;
+    this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+    this.submitTimeoutMs = submitTimeoutMs;
+    this.queue = new LinkedBlockingQueue<>(queueCapacity);
+    this.groupSize =
+        DistributionSummary.builder("transactions.group-commit.size")
+            .description("Create requests committed together in one database transaction")
+            .register(meterRegistry);
+    Gauge.builder("transactions.group-commit.queued", queue, BlockingQueue::size)
+        .description("Create requests waiting for the next group commit")
+        .register(meterRegistry);
+  }
+
+  // Blocks the caller until the group holding its command has committed. When the writer is not
+  // running, the queue is full or the group does not commit within submitTimeoutMs, the command
+  // runs in its own transaction instead; inserts are idempotent on the external reference, so a
+  // group that commits it late does not create it twice.
+  public Transaction submit(final CreateTransactionCommand command) {
+    var pending = new Pending(command, new CompletableFuture<>());
+    var writer = writerThread;
+    if (!running || writer == null || !writer.isAlive() || !queue.offer(pending)) {
+      return createTransactionService.execute(command);
+    }
+    try {
+      return pending.result().get(submitTimeoutMs, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException ex) {
+      queue.remove(pending);
+      LOGGER.warn("Group commit took over {} ms, creating the transaction alone", submitTimeoutMs);
+      return createTransactionService.execute(command);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the group commit", ex);
+    } catch (ExecutionException ex) {
+      throw unwrap(ex);
+    }
+  }
+
+  @Override
+  public void start() {
+    running = true;
+    writerThread =
+        Thread.ofPlatform().name("transaction-group-commit").daemon().start(this::drain);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    if (writerThread != null) {
+      try {
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    // anything offered while the writer was shutting down still gets an answer
+    Pending pending;
+    while ((pending = queue.poll()) != null) {
+      executeAlone(pending);
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void drain() {
+    var group = new ArrayList<Pending>(maxBatchSize);
+    while (running || !queue.isEmpty()) {
+      try {
+        var first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        group.add(first);
+        collect(group);
+        commit(group);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        group.forEach(this::executeAlone);
+        return;
+      } catch (Error ex) {
+        // e.g. OutOfMemoryError: this group's callers get the error, and the writer carries on so
+        // the callers queued behind it are not stranded
+        LOGGER.error("Group commit of {} transactions failed with an error", group.size(), ex);
+        group.forEach(pending -> pending.result().completeExceptionally(ex));
+      } finally {
+        group.clear();
+      }
+    }
+  }
+
+  private void collect(final List<Pending> group) throws InterruptedException {
+    var deadline = System.nanoTime() + maxDelayNanos;
+    while (group.size() < maxBatchSize) {
+      var remaining = deadline - System.nanoTime();
+      var next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+      if (next == null) {
+        return;
+      }
+      group.add(next);
+    }
+  }
+
+  private void commit(final List<Pending> group) {
+    groupSize.record(group.size());
+    List<CreateTransactionResult> results;
+    try {
+      results =
+          createTransactionBatchService.execute(group.stream().map(Pending::command).toList());
+    } catch (RuntimeException ex) {
+      // one failing command must not fail every caller, so each is retried in its own transaction
+      LOGGER.warn("Group commit of {} transactions failed, retrying one by one", group.size(), ex);
+      group.forEach(this::executeAlone);
+      return;
+    }
+    for (var index = 0; index < group.size(); index++) {
+      var result = results.get(index);
+      var future = group.get(index).result();
+      if (result.outcome() == CreateTransactionResult.Outcome.REJECTED) {
+        future.completeExceptionally(new InvalidTransactionException(result.error()));
+      } else {
+        future.complete(result.transaction());
+      }
+    }
+  }
+
+  private void executeAlone(final Pending pending) {
+    try {
+      pending.result().complete(createTransactionService.execute(pending.command()));
+    } catch (RuntimeException ex) {
+      pending.result().completeExceptionally(ex);
+    }
+  }
+
+  private static RuntimeException unwrap(final ExecutionException ex) {
+    if (ex.getCause() instanceof RuntimeException cause) {
+      return cause;
+    }
+    if (ex.getCause() instanceof Error error) {
+      throw error;
+    }
+    return new IllegalStateException(ex.getCause());
+  }
+
+  private record Pending(CreateTransactionCommand command, CompletableFuture<Transaction> result) {}
+}
@@ -0,0 +1,12 @@
+CREATE TABLE outbox_events_dead
+(
+    id           UUID PRIMARY KEY,
+    topic        VARCHAR(255)             NOT NULL,
+    message_key  VARCHAR(255),
+    payload      JSONB                    NOT NULL,
+    wire_payload BYTEA,
+    created_at   TIMESTAMP WITH TIME ZONE NOT NULL,
+    attempts     INTEGER                  NOT NULL,
+    last_error   TEXT,
+    archived_at  TIMESTAMP WITH TIME ZONE NOT NULL
+);
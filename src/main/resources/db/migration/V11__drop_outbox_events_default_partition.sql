@@ -0,0 +1,28 @@
+-- DETACH PARTITION ... CONCURRENTLY is not allowed while a default partition exists. Rows that
+-- landed in it get a daily partition of their own before it is dropped.
+ALTER TABLE outbox_events DETACH PARTITION outbox_events_default;
+
+DO
+$$
+    DECLARE
+        partition_day DATE;
+    BEGIN
+        FOR partition_day IN
+            SELECT DISTINCT (created_at AT TIME ZONE 'UTC')::DATE FROM outbox_events_default
+            LOOP
+                EXECUTE format(
+                        'CREATE TABLE IF NOT EXISTS %I PARTITION OF outbox_events FOR VALUES FROM (%L) TO (%L)',
+                        'outbox_events_p' || to_char(partition_day, 'YYYYMMDD'),
+                        partition_day::TIMESTAMP AT TIME ZONE 'UTC',
+                        (partition_day + 1)::TIMESTAMP AT TIME ZONE 'UTC');
+            END LOOP;
+    END
+$$;
+
+INSERT INTO outbox_events (id, topic, message_key, payload, status, created_at, attempts,
+                           next_attempt_at, last_error, wire_payload)
+SELECT id, topic, message_key, payload, status, created_at, attempts, next_attempt_at, last_error,
+       wire_payload
+FROM outbox_events_default;
+
+DROP TABLE outbox_events_default;
@@ -0,0 +1,48 @@
+ALTER TABLE outbox_events RENAME TO outbox_events_legacy;
+DROP INDEX idx_outbox_events_status_created_at;
+ALTER TABLE outbox_events_legacy DROP CONSTRAINT outbox_events_pkey;
+
+CREATE TABLE outbox_events
+(
+    id          UUID                     NOT NULL,
+    topic       VARCHAR(255)             NOT NULL,
+    message_key VARCHAR(255),
+    payload     JSONB                    NOT NULL,
+    status      VARCHAR(32)              NOT NULL,
+    created_at  TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX idx_outbox_events_pending_created_at
+    ON outbox_events (created_at)
+    WHERE status = 'PENDING';
+
+CREATE TABLE outbox_events_default PARTITION OF outbox_events DEFAULT;
+
+DO
+$$
+    DECLARE
+        partition_day DATE;
+        last_day      DATE := (now() AT TIME ZONE 'UTC')::DATE + 3;
+    BEGIN
+        SELECT coalesce(min((created_at AT TIME ZONE 'UTC')::DATE), (now() AT TIME ZONE 'UTC')::DATE)
+        INTO partition_day
+        FROM outbox_events_legacy;
+
+        WHILE partition_day <= last_day
+            LOOP
+                EXECUTE format(
+                        'CREATE TABLE %I PARTITION OF outbox_events FOR VALUES FROM (%L) TO (%L)',
+                        'outbox_events_p' || to_char(partition_day, 'YYYYMMDD'),
+                        partition_day::TIMESTAMP AT TIME ZONE 'UTC',
+                        (partition_day + 1)::TIMESTAMP AT TIME ZONE 'UTC');
+                partition_day := partition_day + 1;
+            END LOOP;
+    END
+$$;
+
+INSERT INTO outbox_events (id, topic, message_key, payload, status, created_at)
+SELECT id, topic, message_key, payload, status, created_at
+FROM outbox_events_legacy;
+
+DROP TABLE outbox_events_legacy;
@@ -0,0 +1,8 @@
+ALTER TABLE outbox_events
+    ADD COLUMN attempts        INTEGER                  NOT NULL DEFAULT 0,
+    ADD COLUMN next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    ADD COLUMN last_error      TEXT;
+
+CREATE INDEX idx_outbox_events_pending_message_key_created_at
+    ON outbox_events (message_key, created_at)
+    WHERE status = 'PENDING';
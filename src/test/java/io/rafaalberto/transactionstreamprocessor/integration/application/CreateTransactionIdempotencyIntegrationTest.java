@@ -2,10 +2,9 @@ package io.rafaalberto.transactionstreamprocessor.integration.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
-import io.rafaalberto.transactionstreamprocessor.application.exception.DuplicateTransactionException;
 import io.rafaalberto.transactionstreamprocessor.application.outbox.OutboxEventAppender;
 import io.rafaalberto.transactionstreamprocessor.application.repository.TransactionRepository;
 import io.rafaalberto.transactionstreamprocessor.application.usecases.CreateTransactionCommand;
@@ -16,12 +15,9 @@ import io.rafaalberto.transactionstreamprocessor.infrastructure.service.CreateTr
 import io.rafaalberto.transactionstreamprocessor.integration.config.PostgresInitializer;
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -69,7 +65,7 @@ class CreateTransactionIdempotencyIntegrationTest {
         .isPresent()
         .hasValueSatisfying(tx -> assertThat(tx.id()).isEqualTo(firstTransaction.id()));
 
-    verify(outboxEventAppender, atLeastOnce()).append(any());
+    verify(outboxEventAppender, times(1)).append(any());
   }
 
   @Test
@@ -97,20 +93,12 @@ class CreateTransactionIdempotencyIntegrationTest {
       Future<Transaction> future2 = executor.submit(task);
       ready.await();
       start.countDown();
-      var results = new ArrayList<Transaction>();
-      var exceptions = new ArrayList<Exception>();
-      for (var future : List.of(future1, future2)) {
-        try {
-          results.add(future.get());
-        } catch (ExecutionException ex) {
-          assertThat(ex.getCause()).isInstanceOf(DuplicateTransactionException.class);
-          exceptions.add(ex);
-        }
-      }
-      assertThat(results).hasSizeGreaterThanOrEqualTo(1);
-      assertThat(results.size() + exceptions.size()).isEqualTo(2);
+      var first = future1.get();
+      var second = future2.get();
+      assertThat(second.id()).isEqualTo(first.id());
       var persisted = transactionRepository.findByExternalReference(externalReference);
-      assertThat(persisted).isPresent();
+      assertThat(persisted).hasValueSatisfying(tx -> assertThat(tx.id()).isEqualTo(first.id()));
+      verify(outboxEventAppender, times(1)).append(any());
       executor.shutdown();
     }
   }
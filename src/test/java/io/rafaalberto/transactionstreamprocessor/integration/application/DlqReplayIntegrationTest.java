@@ -0,0 +1,166 @@
+package io.rafaalberto.transactionstreamprocessor.integration.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionCreatedEvent;
+import io.rafaalberto.transactionstreamprocessor.application.usecases.ProcessTransactionUseCase;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Currency;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionID;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionType;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.config.KafkaConsumerConfig;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.config.KafkaTopics;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.replay.DlqReplayRequest;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.replay.DlqReplayService;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.replay.DlqReplayStatus;
+import io.rafaalberto.transactionstreamprocessor.integration.config.KafkaInitializer;
+import io.rafaalberto.transactionstreamprocessor.integration.config.PostgresInitializer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = {PostgresInitializer.class, KafkaInitializer.class})
+class DlqReplayIntegrationTest {
+
+  @Autowired private KafkaTemplate<String, TransactionCreatedEvent> kafkaTemplate;
+
+  @Autowired private DlqReplayService replayService;
+
+  @MockitoBean private ProcessTransactionUseCase processTransactionUseCase;
+
+  private static final UUID ACCOUNT_ID = UUID.randomUUID();
+
+  private static final Instant OCCURRED_AT = Instant.parse("2025-03-23T11:00:00Z");
+
+  @Test
+  void shouldReplayOnlyMatchingDlqRecordsIntoTheirOriginalTopic() throws Exception {
+    var matchingException = "com.example.ReplayProbe" + UUID.randomUUID().getMostSignificantBits();
+    var replayedId = UUID.randomUUID();
+    var keptId = UUID.randomUUID();
+    doReturn(Optional.empty()).when(processTransactionUseCase).execute(any());
+
+    var from = Instant.now().minus(1, ChronoUnit.MINUTES);
+    kafkaTemplate.send(dlqRecord(replayedId, matchingException)).get();
+    kafkaTemplate.send(dlqRecord(keptId, "java.lang.IllegalStateException")).get();
+
+    replayService.start(new DlqReplayRequest(null, from, null, matchingException, 100));
+
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(15))
+        .untilAsserted(
+            () ->
+                assertThat(replayService.status().state())
+                    .isEqualTo(DlqReplayStatus.State.COMPLETED));
+    assertThat(replayService.status().replayed()).isEqualTo(1);
+    assertThat(replayService.status().skipped()).isGreaterThanOrEqualTo(1);
+
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(10))
+        .untilAsserted(
+            () -> verify(processTransactionUseCase).execute(new TransactionID(replayedId)));
+    verify(processTransactionUseCase, never()).execute(new TransactionID(keptId));
+  }
+
+  @Test
+  void shouldStopAtAFailedSendAndResumeFromTheReportedOffsets() throws Exception {
+    var matchingException = "com.example.ReplayProbe" + UUID.randomUUID().getMostSignificantBits();
+    var resumedId = UUID.randomUUID();
+    doReturn(Optional.empty()).when(processTransactionUseCase).execute(any());
+
+    var from = Instant.now().minus(1, ChronoUnit.MINUTES);
+    kafkaTemplate.send(dlqRecord(UUID.randomUUID(), matchingException)).get();
+    // an illegal topic name fails the send right away
+    var unsendable =
+        kafkaTemplate
+            .send(dlqRecord(UUID.randomUUID(), matchingException, "not a topic!"))
+            .get()
+            .getRecordMetadata();
+    kafkaTemplate.send(dlqRecord(resumedId, matchingException)).get();
+
+    replayService.start(new DlqReplayRequest(null, from, null, matchingException, 100));
+
+    var failed = awaitFinished();
+    assertThat(failed.state()).isEqualTo(DlqReplayStatus.State.FAILED);
+    assertThat(failed.failed()).isEqualTo(1);
+    assertThat(failed.nextOffsets()).containsEntry(unsendable.partition(), unsendable.offset());
+
+    replayService.start(
+        new DlqReplayRequest(
+            Map.of(unsendable.partition(), unsendable.offset() + 1),
+            null,
+            null,
+            matchingException,
+            100));
+
+    var resumed = awaitFinished();
+    assertThat(resumed.state()).isEqualTo(DlqReplayStatus.State.COMPLETED);
+    assertThat(resumed.failed()).isZero();
+    assertThat(resumed.replayed()).isEqualTo(1);
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(10))
+        .untilAsserted(
+            () ->
+                verify(processTransactionUseCase, atLeastOnce())
+                    .execute(new TransactionID(resumedId)));
+  }
+
+  private DlqReplayStatus awaitFinished() {
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(30))
+        .until(() -> replayService.status().state() != DlqReplayStatus.State.RUNNING);
+    return replayService.status();
+  }
+
+  private ProducerRecord<String, TransactionCreatedEvent> dlqRecord(
+      final UUID transactionId, final String exceptionClass) {
+    return dlqRecord(transactionId, exceptionClass, KafkaTopics.TRANSACTIONS_CREATED);
+  }
+
+  private ProducerRecord<String, TransactionCreatedEvent> dlqRecord(
+      final UUID transactionId, final String exceptionClass, final String originalTopic) {
+    var dlqRecord =
+        new ProducerRecord<String, TransactionCreatedEvent>(
+            KafkaTopics.TRANSACTIONS_DLQ, ACCOUNT_ID.toString(), event(transactionId));
+    dlqRecord
+        .headers()
+        .add(
+            KafkaConsumerConfig.ORIGINAL_TOPIC_HEADER,
+            originalTopic.getBytes(StandardCharsets.UTF_8))
+        .add(
+            KafkaConsumerConfig.EXCEPTION_CLASS_HEADER,
+            exceptionClass.getBytes(StandardCharsets.UTF_8));
+    return dlqRecord;
+  }
+
+  private TransactionCreatedEvent event(final UUID transactionId) {
+    return new TransactionCreatedEvent(
+        transactionId,
+        BigDecimal.valueOf(100),
+        Currency.BRL,
+        ACCOUNT_ID,
+        TransactionType.CREDIT,
+        OCCURRED_AT,
+        Instant.now(),
+        "replay-test-" + transactionId);
+  }
+}
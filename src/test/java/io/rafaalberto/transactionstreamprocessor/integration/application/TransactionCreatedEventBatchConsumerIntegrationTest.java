@@ -0,0 +1,106 @@
+package io.rafaalberto.transactionstreamprocessor.integration.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionCreatedEvent;
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionProcessedEvent;
+import io.rafaalberto.transactionstreamprocessor.application.publisher.TransactionProcessedEventPublisher;
+import io.rafaalberto.transactionstreamprocessor.application.repository.TransactionRepository;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.AccountID;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Currency;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Money;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Transaction;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionStatus;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionType;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.config.KafkaTopics;
+import io.rafaalberto.transactionstreamprocessor.integration.config.KafkaInitializer;
+import io.rafaalberto.transactionstreamprocessor.integration.config.PostgresInitializer;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest(properties = "kafka.consumer.mode=batch")
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = {PostgresInitializer.class, KafkaInitializer.class})
+class TransactionCreatedEventBatchConsumerIntegrationTest {
+
+  private static final Instant OCCURRED_AT = Instant.parse("2025-03-23T11:00:00Z");
+
+  @Autowired private KafkaTemplate<String, TransactionCreatedEvent> kafkaTemplate;
+
+  @Autowired private TransactionRepository transactionRepository;
+
+  @MockitoBean private TransactionProcessedEventPublisher transactionProcessedPublisher;
+
+  @Test
+  void shouldProcessEveryTransactionOfAPollAndPublishThemTogether() {
+    var transactions =
+        IntStream.range(0, 20)
+            .mapToObj(
+                index -> transactionRepository.insertIfAbsent(newTransaction()).orElseThrow())
+            .toList();
+
+    transactions.forEach(
+        transaction -> kafkaTemplate.send(KafkaTopics.TRANSACTIONS_CREATED, toEvent(transaction)));
+
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(10))
+        .untilAsserted(
+            () ->
+                assertThat(transactions)
+                    .allSatisfy(
+                        transaction ->
+                            assertThat(
+                                    transactionRepository
+                                        .findById(transaction.id())
+                                        .orElseThrow()
+                                        .status())
+                                .isEqualTo(TransactionStatus.PROCESSED)));
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<TransactionProcessedEvent>> captor = ArgumentCaptor.forClass(List.class);
+    verify(transactionProcessedPublisher, atLeastOnce()).publishAll(captor.capture());
+    var published =
+        captor.getAllValues().stream()
+            .flatMap(List::stream)
+            .map(TransactionProcessedEvent::transactionId)
+            .toList();
+    assertThat(published)
+        .containsAll(transactions.stream().map(transaction -> transaction.id().value()).toList());
+  }
+
+  private static Transaction newTransaction() {
+    return Transaction.create(
+        new Money(BigDecimal.valueOf(100), Currency.BRL),
+        TransactionType.CREDIT,
+        new AccountID(UUID.randomUUID()),
+        OCCURRED_AT,
+        "kafka-batch-test-" + UUID.randomUUID());
+  }
+
+  private static TransactionCreatedEvent toEvent(final Transaction transaction) {
+    return new TransactionCreatedEvent(
+        transaction.id().value(),
+        transaction.money().amount(),
+        transaction.money().currency(),
+        transaction.accountId().value(),
+        transaction.type(),
+        transaction.occurredAt(),
+        transaction.createdAt(),
+        transaction.externalReference());
+  }
+}
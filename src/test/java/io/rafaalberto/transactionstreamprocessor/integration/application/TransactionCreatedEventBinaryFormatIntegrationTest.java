@@ -0,0 +1,117 @@
+package io.rafaalberto.transactionstreamprocessor.integration.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionCreatedEvent;
+import io.rafaalberto.transactionstreamprocessor.application.publisher.TransactionProcessedEventPublisher;
+import io.rafaalberto.transactionstreamprocessor.application.repository.TransactionRepository;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.AccountID;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Currency;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Money;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Transaction;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionStatus;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionType;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.config.KafkaTopics;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.serde.TransactionEventBinaryCodec;
+import io.rafaalberto.transactionstreamprocessor.integration.config.KafkaInitializer;
+import io.rafaalberto.transactionstreamprocessor.integration.config.PostgresInitializer;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.StreamSupport;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest(properties = "kafka.serde.binary-topics=transactions.created")
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = {PostgresInitializer.class, KafkaInitializer.class})
+class TransactionCreatedEventBinaryFormatIntegrationTest {
+
+  private static final Instant OCCURRED_AT = Instant.parse("2025-03-23T11:00:00Z");
+
+  @Autowired private KafkaTemplate<String, TransactionCreatedEvent> kafkaTemplate;
+
+  @Autowired private TransactionRepository transactionRepository;
+
+  @MockitoBean private TransactionProcessedEventPublisher transactionProcessedPublisher;
+
+  @Test
+  void shouldPublishBinaryEventsAndStillProcessThem() {
+    var transaction =
+        transactionRepository
+            .insertIfAbsent(
+                Transaction.create(
+                    new Money(BigDecimal.valueOf(100), Currency.BRL),
+                    TransactionType.CREDIT,
+                    new AccountID(UUID.randomUUID()),
+                    OCCURRED_AT,
+                    "kafka-binary-test-" + UUID.randomUUID()))
+            .orElseThrow();
+
+    kafkaTemplate.send(
+        KafkaTopics.TRANSACTIONS_CREATED,
+        new TransactionCreatedEvent(
+            transaction.id().value(),
+            transaction.money().amount(),
+            transaction.money().currency(),
+            transaction.accountId().value(),
+            transaction.type(),
+            transaction.occurredAt(),
+            transaction.createdAt(),
+            transaction.externalReference()));
+
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(transactionRepository.findById(transaction.id()).orElseThrow().status())
+                    .isEqualTo(TransactionStatus.PROCESSED));
+
+    try (var consumer = rawConsumer()) {
+      consumer.subscribe(List.of(KafkaTopics.TRANSACTIONS_CREATED));
+      Awaitility.await()
+          .atMost(Duration.ofSeconds(10))
+          .untilAsserted(
+              () -> {
+                var records = consumer.poll(Duration.ofSeconds(1));
+                var payload =
+                    StreamSupport.stream(records.spliterator(), false)
+                        .map(consumerRecord -> consumerRecord.value())
+                        .filter(TransactionEventBinaryCodec::isBinary)
+                        .map(TransactionEventBinaryCodec::decode)
+                        .filter(
+                            event ->
+                                event instanceof TransactionCreatedEvent created
+                                    && created.transactionId().equals(transaction.id().value()))
+                        .findFirst();
+                assertThat(payload).isPresent();
+              });
+    }
+  }
+
+  private static KafkaConsumer<String, byte[]> rawConsumer() {
+    return new KafkaConsumer<>(
+        Map.of(
+            ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG,
+            KafkaInitializer.KAFKA.getBootstrapServers(),
+            ConsumerConfig.GROUP_ID_CONFIG,
+            "binary-format-test-" + UUID.randomUUID(),
+            ConsumerConfig.AUTO_OFFSET_RESET_CONFIG,
+            "earliest"),
+        new StringDeserializer(),
+        new ByteArrayDeserializer());
+  }
+}
@@ -52,7 +52,7 @@ class TransactionCreatedEventConsumerIntegrationTest {
         Transaction.create(
             money, TransactionType.CREDIT, accountId, OCCURRED_AT, externalReference);
 
-    transactionRepository.save(transaction);
+    transactionRepository.insertIfAbsent(transaction).orElseThrow();
 
     var transactionEvent =
         new TransactionCreatedEvent(
@@ -0,0 +1,187 @@
+package io.rafaalberto.transactionstreamprocessor.integration.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionCreatedEvent;
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionProcessedEvent;
+import io.rafaalberto.transactionstreamprocessor.application.publisher.TransactionProcessedEventPublisher;
+import io.rafaalberto.transactionstreamprocessor.application.repository.TransactionRepository;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.AccountID;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Currency;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Money;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Transaction;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionStatus;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionType;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.config.KafkaTopics;
+import io.rafaalberto.transactionstreamprocessor.integration.config.KafkaInitializer;
+import io.rafaalberto.transactionstreamprocessor.integration.config.PostgresInitializer;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest(properties = "kafka.consumer.mode=parallel")
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = {PostgresInitializer.class, KafkaInitializer.class})
+class TransactionCreatedEventParallelConsumerIntegrationTest {
+
+  private static final Instant OCCURRED_AT = Instant.parse("2025-03-23T11:00:00Z");
+
+  @Autowired private ConsumerFactory<String, TransactionCreatedEvent> consumerFactory;
+
+  @Autowired private KafkaTemplate<String, TransactionCreatedEvent> kafkaTemplate;
+
+  @Autowired private TransactionRepository transactionRepository;
+
+  @MockitoBean private TransactionProcessedEventPublisher transactionProcessedPublisher;
+
+  @Test
+  void shouldPublishEveryProcessedTransactionEvenWhenALanePublishFails() {
+    var accounts = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    var transactions =
+        IntStream.range(0, 12)
+            .mapToObj(
+                index ->
+                    transactionRepository
+                        .insertIfAbsent(newTransaction(accounts.get(index % accounts.size())))
+                        .orElseThrow())
+            .toList();
+    var unluckyId = transactions.get(4).id().value();
+    var published = ConcurrentHashMap.<UUID>newKeySet();
+    failFirstPublishOf(unluckyId, published);
+
+    transactions.forEach(
+        transaction -> kafkaTemplate.send(KafkaTopics.TRANSACTIONS_CREATED, toEvent(transaction)));
+
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(20))
+        .untilAsserted(
+            () -> {
+              assertThat(transactions)
+                  .allSatisfy(
+                      transaction ->
+                          assertThat(
+                                  transactionRepository
+                                      .findById(transaction.id())
+                                      .orElseThrow()
+                                      .status())
+                              .isEqualTo(TransactionStatus.PROCESSED));
+              // a record left PROCESSED by a failed publish would be skipped on redelivery and
+              // never show up here
+              assertThat(published)
+                  .containsAll(
+                      transactions.stream().map(transaction -> transaction.id().value()).toList());
+            });
+  }
+
+  @Test
+  void shouldRecoverOnlyTheFailedRecordOfALane() {
+    var accountId = UUID.randomUUID();
+    var first = transactionRepository.insertIfAbsent(newTransaction(accountId)).orElseThrow();
+    // never stored, so processing it fails with a non-retryable not found
+    var missing = newTransaction(accountId);
+    var last = transactionRepository.insertIfAbsent(newTransaction(accountId)).orElseThrow();
+    var ids = Set.of(first.id().value(), missing.id().value(), last.id().value());
+
+    List.of(first, missing, last)
+        .forEach(
+            transaction ->
+                kafkaTemplate.send(KafkaTopics.TRANSACTIONS_CREATED, toEvent(transaction)));
+
+    var recovered = ConcurrentHashMap.<UUID>newKeySet();
+    try (var consumer =
+        consumerFactory.createConsumer("parallel-dlq-test-group", UUID.randomUUID().toString())) {
+      consumer.subscribe(
+          List.of(
+              KafkaTopics.TRANSACTIONS_CREATED_RETRY_1S,
+              KafkaTopics.TRANSACTIONS_CREATED_RETRY_10S,
+              KafkaTopics.TRANSACTIONS_CREATED_RETRY_60S,
+              KafkaTopics.TRANSACTIONS_DLQ));
+      Awaitility.await()
+          .atMost(Duration.ofSeconds(20))
+          .untilAsserted(
+              () -> {
+                consumer
+                    .poll(Duration.ofMillis(500))
+                    .forEach(
+                        consumerRecord -> {
+                          var id = consumerRecord.value().transactionId();
+                          if (ids.contains(id)) {
+                            recovered.add(id);
+                          }
+                        });
+                assertThat(recovered).contains(missing.id().value());
+                assertThat(transactionRepository.findById(first.id()).orElseThrow().status())
+                    .isEqualTo(TransactionStatus.PROCESSED);
+                assertThat(transactionRepository.findById(last.id()).orElseThrow().status())
+                    .isEqualTo(TransactionStatus.PROCESSED);
+              });
+      consumer
+          .poll(Duration.ofSeconds(2))
+          .forEach(consumerRecord -> recovered.add(consumerRecord.value().transactionId()));
+    }
+
+    assertThat(recovered).filteredOn(ids::contains).containsExactly(missing.id().value());
+  }
+
+  private void failFirstPublishOf(final UUID transactionId, final Set<UUID> published) {
+    var failed = new AtomicBoolean();
+    doAnswer(
+            invocation -> {
+              List<TransactionProcessedEvent> events = invocation.getArgument(0);
+              var ids = events.stream().map(TransactionProcessedEvent::transactionId).toList();
+              if (ids.contains(transactionId) && failed.compareAndSet(false, true)) {
+                throw new IllegalStateException("broker unavailable");
+              }
+              published.addAll(ids);
+              return null;
+            })
+        .when(transactionProcessedPublisher)
+        .publishAll(any());
+    doAnswer(
+            invocation -> {
+              TransactionProcessedEvent event = invocation.getArgument(0);
+              published.add(event.transactionId());
+              return null;
+            })
+        .when(transactionProcessedPublisher)
+        .publish(any());
+  }
+
+  private static Transaction newTransaction(final UUID accountId) {
+    return Transaction.create(
+        new Money(BigDecimal.valueOf(100), Currency.BRL),
+        TransactionType.CREDIT,
+        new AccountID(accountId),
+        OCCURRED_AT,
+        "kafka-parallel-test-" + UUID.randomUUID());
+  }
+
+  private static TransactionCreatedEvent toEvent(final Transaction transaction) {
+    return new TransactionCreatedEvent(
+        transaction.id().value(),
+        transaction.money().amount(),
+        transaction.money().currency(),
+        transaction.accountId().value(),
+        transaction.type(),
+        transaction.occurredAt(),
+        transaction.createdAt(),
+        transaction.externalReference());
+  }
+}
@@ -0,0 +1,153 @@
+package io.rafaalberto.transactionstreamprocessor.integration.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionCreatedEvent;
+import io.rafaalberto.transactionstreamprocessor.application.usecases.ProcessTransactionUseCase;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Currency;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionID;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionType;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.config.KafkaRetryTiers;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.config.KafkaTopics;
+import io.rafaalberto.transactionstreamprocessor.integration.config.KafkaInitializer;
+import io.rafaalberto.transactionstreamprocessor.integration.config.PostgresInitializer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.StreamSupport;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = {PostgresInitializer.class, KafkaInitializer.class})
+class TransactionCreatedEventRetryIntegrationTest {
+
+  @Autowired private ConsumerFactory<String, TransactionCreatedEvent> consumerFactory;
+
+  @Autowired private KafkaTemplate<String, TransactionCreatedEvent> kafkaTemplate;
+
+  @MockitoBean private ProcessTransactionUseCase processTransactionUseCase;
+
+  private static final UUID ACCOUNT_ID = UUID.randomUUID();
+
+  private static final Instant OCCURRED_AT = Instant.parse("2025-03-23T11:00:00Z");
+
+  @Test
+  void shouldMoveFailedEventToRetryTopicAndKeepMainTopicFlowing() {
+    var failingId = UUID.randomUUID();
+    var healthyId = UUID.randomUUID();
+
+    doReturn(Optional.empty()).when(processTransactionUseCase).execute(any());
+    doThrow(new RuntimeException("database unavailable"))
+        .doReturn(Optional.empty())
+        .when(processTransactionUseCase)
+        .execute(eq(new TransactionID(failingId)));
+
+    kafkaTemplate.send(KafkaTopics.TRANSACTIONS_CREATED, event(failingId));
+    kafkaTemplate.send(KafkaTopics.TRANSACTIONS_CREATED, event(healthyId));
+
+    var consumer = consumerFactory.createConsumer("retry-test-group", UUID.randomUUID().toString());
+
+    try (consumer) {
+      consumer.subscribe(List.of(KafkaTopics.TRANSACTIONS_CREATED_RETRY_1S));
+      Awaitility.await()
+          .atMost(Duration.ofSeconds(10))
+          .untilAsserted(
+              () -> {
+                var records = consumer.poll(Duration.ofSeconds(2));
+
+                var consumerRecord =
+                    StreamSupport.stream(records.spliterator(), false)
+                        .filter(r -> failingId.equals(r.value().transactionId()))
+                        .findFirst()
+                        .orElseThrow();
+
+                assertThat(
+                        new String(
+                            consumerRecord.headers().lastHeader("x-original-topic").value(),
+                            StandardCharsets.UTF_8))
+                    .isEqualTo(KafkaTopics.TRANSACTIONS_CREATED);
+                assertThat(consumerRecord.headers().lastHeader("x-exception-class")).isNotNull();
+                assertThat(consumerRecord.headers().lastHeader(KafkaRetryTiers.RETRY_DUE_AT_HEADER))
+                    .isNotNull();
+              });
+    }
+
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(10))
+        .untilAsserted(
+            () -> {
+              verify(processTransactionUseCase).execute(new TransactionID(healthyId));
+              verify(processTransactionUseCase, times(2)).execute(new TransactionID(failingId));
+            });
+  }
+
+  @Test
+  void shouldPauseOnlyThePartitionWhoseRecordIsNotDueYet() {
+    var waitingId = UUID.randomUUID();
+    var dueId = UUID.randomUUID();
+    doReturn(Optional.empty()).when(processTransactionUseCase).execute(any());
+    var waitingDueAt = Instant.now().plusSeconds(4);
+
+    kafkaTemplate.send(
+        retryRecord(KafkaTopics.TRANSACTIONS_CREATED_RETRY_10S, waitingId, waitingDueAt));
+    kafkaTemplate.send(
+        retryRecord(KafkaTopics.TRANSACTIONS_CREATED_RETRY_1S, dueId, Instant.now()));
+
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(3))
+        .untilAsserted(() -> verify(processTransactionUseCase).execute(new TransactionID(dueId)));
+    verify(processTransactionUseCase, never()).execute(new TransactionID(waitingId));
+
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(10))
+        .untilAsserted(
+            () -> verify(processTransactionUseCase).execute(new TransactionID(waitingId)));
+    assertThat(Instant.now()).isAfterOrEqualTo(waitingDueAt);
+  }
+
+  private ProducerRecord<String, TransactionCreatedEvent> retryRecord(
+      final String topic, final UUID transactionId, final Instant dueAt) {
+    var producerRecord =
+        new ProducerRecord<String, TransactionCreatedEvent>(
+            topic, transactionId.toString(), event(transactionId));
+    producerRecord
+        .headers()
+        .add(
+            KafkaRetryTiers.RETRY_DUE_AT_HEADER,
+            String.valueOf(dueAt.toEpochMilli()).getBytes(StandardCharsets.UTF_8));
+    return producerRecord;
+  }
+
+  private TransactionCreatedEvent event(final UUID transactionId) {
+    return new TransactionCreatedEvent(
+        transactionId,
+        BigDecimal.valueOf(100),
+        Currency.BRL,
+        ACCOUNT_ID,
+        TransactionType.CREDIT,
+        OCCURRED_AT,
+        Instant.now(),
+        "retry-test-" + transactionId);
+  }
+}
@@ -1,9 +1,11 @@
 package io.rafaalberto.transactionstreamprocessor.integration.http;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -15,23 +17,29 @@ import io.rafaalberto.transactionstreamprocessor.application.outbox.OutboxEventA
 import io.rafaalberto.transactionstreamprocessor.domain.transaction.Currency;
 import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionStatus;
 import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionType;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.cache.BloomExternalReferenceFilter;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.http.request.CreateTransactionBatchRequest;
 import io.rafaalberto.transactionstreamprocessor.infrastructure.http.request.CreateTransactionRequest;
 import io.rafaalberto.transactionstreamprocessor.integration.config.PostgresInitializer;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import tools.jackson.databind.ObjectMapper;
 
-@SpringBootTest
+@SpringBootTest(properties = "transactions.reference-filter.refresh-interval-ms=3600000")
 @ActiveProfiles("test")
 @ContextConfiguration(initializers = {PostgresInitializer.class})
 @AutoConfigureMockMvc
@@ -41,6 +49,10 @@ class TransactionHttpIntegrationTest {
 
   @Autowired private ObjectMapper objectMapper;
 
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Autowired private BloomExternalReferenceFilter referenceFilter;
+
   @MockitoBean private OutboxEventAppender outboxEventAppender;
 
   private static final BigDecimal DEFAULT_AMOUNT = BigDecimal.valueOf(100);
@@ -138,6 +150,100 @@ class TransactionHttpIntegrationTest {
         .append(argThat(event -> event.topic().equals("transactions.created")));
   }
 
+  @Test
+  void shouldCreateTransactionBatchAndResolveRetriesAsExisting() throws Exception {
+    var firstReference = "settlement-" + UUID.randomUUID();
+    var secondReference = "settlement-" + UUID.randomUUID();
+    var batch =
+        new CreateTransactionBatchRequest(
+            List.of(
+                createRequest(firstReference),
+                createRequest(secondReference),
+                createRequest(firstReference)));
+
+    var responseBody =
+        mockMvc
+            .perform(
+                post("/transactions/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(batch)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(2))
+            .andExpect(jsonPath("$.alreadyExisting").value(1))
+            .andExpect(jsonPath("$.results[2].outcome").value("ALREADY_EXISTS"))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+    String id = JsonPath.read(responseBody, "$.results[1].transaction.id");
+    mockMvc
+        .perform(get("/transactions/{id}", id).accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.externalReference").value(secondReference));
+
+    mockMvc
+        .perform(
+            post("/transactions/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batch)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.created").value(0))
+        .andExpect(jsonPath("$.alreadyExisting").value(3))
+        .andExpect(jsonPath("$.results[1].transaction.id").value(id));
+
+    verify(outboxEventAppender, times(1))
+        .appendAll(argThat(events -> events.size() == 2));
+  }
+
+  @Test
+  void shouldReportReferenceInsertedByAnotherInstanceAsExistingDespiteAStaleFilter()
+      throws Exception {
+    Awaitility.await().atMost(Duration.ofSeconds(10)).until(referenceFilter::isReady);
+    var storedReference = "settlement-" + UUID.randomUUID();
+    var storedId = UUID.randomUUID();
+    // written behind this instance's back, as another instance would
+    jdbcTemplate.update(
+        """
+        INSERT INTO transactions
+          (id, amount, currency, account_id, status, type, occurred_at, created_at,
+           external_reference)
+        VALUES (?, 100, 'BRL', ?, 'CREATED', 'CREDIT', now(), now(), ?)
+        """,
+        storedId,
+        DEFAULT_ACCOUNT_ID,
+        storedReference);
+    assertThat(referenceFilter.mightContain(storedReference)).isFalse();
+
+    var batch =
+        new CreateTransactionBatchRequest(
+            List.of(
+                createRequest(storedReference), createRequest("settlement-" + UUID.randomUUID())));
+
+    mockMvc
+        .perform(
+            post("/transactions/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batch)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.created").value(1))
+        .andExpect(jsonPath("$.alreadyExisting").value(1))
+        .andExpect(jsonPath("$.results[0].outcome").value("ALREADY_EXISTS"))
+        .andExpect(jsonPath("$.results[0].transaction.id").value(storedId.toString()))
+        .andExpect(jsonPath("$.results[1].outcome").value("CREATED"));
+
+    verify(outboxEventAppender, times(1)).appendAll(argThat(events -> events.size() == 1));
+  }
+
+  private static CreateTransactionRequest createRequest(final String externalReference) {
+    return new CreateTransactionRequest(
+        DEFAULT_AMOUNT,
+        DEFAULT_CURRENCY,
+        DEFAULT_TYPE,
+        DEFAULT_ACCOUNT_ID,
+        DEFAULT_OCCURRED_AT,
+        externalReference);
+  }
+
   private String createTransaction(final CreateTransactionRequest createRequest) throws Exception {
     return mockMvc
         .perform(
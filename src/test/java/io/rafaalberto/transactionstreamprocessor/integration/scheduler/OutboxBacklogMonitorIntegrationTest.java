@@ -0,0 +1,58 @@
+package io.rafaalberto.transactionstreamprocessor.integration.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.config.KafkaTopics;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.publisher.KafkaOutboxEventPublisher;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox.OutboxEventEntity;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox.OutboxEventJpaRepository;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox.OutboxEventStatus;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.scheduler.OutboxBacklogMonitor;
+import io.rafaalberto.transactionstreamprocessor.integration.config.PostgresInitializer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest(
+    properties = {
+      "outbox.fixed-delay-ms=3600000",
+      "outbox.notify.enabled=false",
+      "outbox.metrics.sample-interval-ms=3600000"
+    })
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = {PostgresInitializer.class})
+class OutboxBacklogMonitorIntegrationTest {
+
+  @Autowired private OutboxBacklogMonitor backlogMonitor;
+
+  @Autowired private OutboxEventJpaRepository outboxEventJpaRepository;
+
+  @Autowired private MeterRegistry meterRegistry;
+
+  @MockitoBean private KafkaOutboxEventPublisher publisher;
+
+  @Test
+  void shouldReportPendingCountAndOldestPendingAge() {
+    outboxEventJpaRepository.save(
+        new OutboxEventEntity(
+            UUID.randomUUID(),
+            KafkaTopics.TRANSACTIONS_CREATED,
+            "backlog-" + UUID.randomUUID(),
+            "{}",
+            OutboxEventStatus.PENDING,
+            Instant.now().minus(Duration.ofMinutes(10))));
+
+    backlogMonitor.sample();
+
+    assertThat(meterRegistry.get("outbox.pending").gauge().value()).isGreaterThanOrEqualTo(1);
+    assertThat(meterRegistry.get("outbox.pending.oldest.age").gauge().value())
+        .isGreaterThanOrEqualTo(Duration.ofMinutes(10).toMillis());
+  }
+}
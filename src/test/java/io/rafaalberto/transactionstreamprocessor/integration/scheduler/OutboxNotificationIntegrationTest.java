@@ -0,0 +1,65 @@
+package io.rafaalberto.transactionstreamprocessor.integration.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.rafaalberto.transactionstreamprocessor.application.usecases.CreateTransactionCommand;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Currency;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionType;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.config.KafkaTopics;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.publisher.KafkaOutboxEventPublisher;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.service.CreateTransactionService;
+import io.rafaalberto.transactionstreamprocessor.integration.config.PostgresInitializer;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest(properties = "outbox.fixed-delay-ms=3600000")
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = {PostgresInitializer.class})
+class OutboxNotificationIntegrationTest {
+
+  @Autowired private CreateTransactionService createTransactionService;
+
+  @MockitoBean private KafkaOutboxEventPublisher publisher;
+
+  @BeforeEach
+  void setup() {
+    when(publisher.publish(any(), any(), any()))
+        .thenReturn(CompletableFuture.completedFuture(null));
+  }
+
+  @Test
+  void shouldRelayEventAsSoonAsTransactionCommits() {
+    var externalReference = "outbox-notify-" + UUID.randomUUID();
+    var command =
+        new CreateTransactionCommand(
+            BigDecimal.TEN,
+            Currency.BRL,
+            TransactionType.CREDIT,
+            UUID.randomUUID(),
+            Instant.parse("2025-03-23T11:00:00Z"),
+            externalReference);
+
+    createTransactionService.execute(command);
+
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(2))
+        .untilAsserted(
+            () ->
+                verify(publisher)
+                    .publish(eq(KafkaTopics.TRANSACTIONS_CREATED), eq(externalReference), any()));
+  }
+}
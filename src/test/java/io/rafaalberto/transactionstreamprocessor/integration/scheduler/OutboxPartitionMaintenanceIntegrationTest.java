@@ -0,0 +1,118 @@
+package io.rafaalberto.transactionstreamprocessor.integration.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.config.KafkaTopics;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox.OutboxEventEntity;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox.OutboxEventJpaRepository;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox.OutboxEventStatus;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.scheduler.OutboxPartitionMaintenance;
+import io.rafaalberto.transactionstreamprocessor.integration.config.PostgresInitializer;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+@SpringBootTest(
+    properties = {
+      "outbox.fixed-delay-ms=3600000",
+      "outbox.partition.maintenance-interval-ms=3600000",
+      "outbox.partition.retention-days=7",
+      "outbox.partition.failed-retention-days=60",
+      "outbox.partition.premake-days=3"
+    })
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = {PostgresInitializer.class})
+class OutboxPartitionMaintenanceIntegrationTest {
+
+  private static final LocalDate TODAY = LocalDate.now(ZoneOffset.UTC);
+
+  @Autowired private OutboxPartitionMaintenance maintenance;
+
+  @Autowired private OutboxEventJpaRepository outboxEventJpaRepository;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Autowired private MeterRegistry meterRegistry;
+
+  @Test
+  void shouldCreatePartitionsAheadOfTodayBeforeTheFirstScheduledRun() {
+    assertThat(partitionExists(partitionName(TODAY))).isTrue();
+    assertThat(partitionExists(partitionName(TODAY.plusDays(1)))).isTrue();
+    assertThat(meterRegistry.get("outbox.partition.days-ahead").gauge().value())
+        .isGreaterThanOrEqualTo(4);
+  }
+
+  @Test
+  void shouldCreatePartitionsAheadOfToday() {
+    maintenance.maintain(TODAY);
+
+    assertThat(partitionExists(partitionName(TODAY))).isTrue();
+    assertThat(partitionExists(partitionName(TODAY.plusDays(3)))).isTrue();
+  }
+
+  @Test
+  void shouldDropExpiredPartitionOnlyWhenEveryEventWasSent() {
+    var sentDay = TODAY.minusDays(30);
+    var pendingDay = TODAY.minusDays(31);
+    maintenance.maintain(sentDay);
+    maintenance.maintain(pendingDay);
+    outboxEventJpaRepository.save(event(sentDay, OutboxEventStatus.SENT));
+    outboxEventJpaRepository.save(event(pendingDay, OutboxEventStatus.PENDING));
+
+    maintenance.maintain(TODAY);
+
+    assertThat(partitionExists(partitionName(sentDay))).isFalse();
+    assertThat(partitionExists(partitionName(pendingDay))).isTrue();
+  }
+
+  @Test
+  void shouldKeepFailedEventsUntilTheirRetentionThenArchiveThemAndDropThePartition() {
+    var recentDay = TODAY.minusDays(40);
+    var oldDay = TODAY.minusDays(70);
+    maintenance.maintain(recentDay);
+    maintenance.maintain(oldDay);
+    var recentFailure = outboxEventJpaRepository.save(event(recentDay, OutboxEventStatus.FAILED));
+    var oldFailure = outboxEventJpaRepository.save(event(oldDay, OutboxEventStatus.FAILED));
+    outboxEventJpaRepository.save(event(oldDay, OutboxEventStatus.SENT));
+
+    maintenance.maintain(TODAY);
+
+    assertThat(partitionExists(partitionName(recentDay))).isTrue();
+    assertThat(outboxEventJpaRepository.existsById(recentFailure.getId())).isTrue();
+    assertThat(partitionExists(partitionName(oldDay))).isFalse();
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM outbox_events_dead WHERE id = ?",
+                Long.class,
+                oldFailure.getId()))
+        .isEqualTo(1);
+  }
+
+  private static String partitionName(final LocalDate day) {
+    return "outbox_events_p" + day.format(DateTimeFormatter.BASIC_ISO_DATE);
+  }
+
+  private boolean partitionExists(final String partition) {
+    return Boolean.TRUE.equals(
+        jdbcTemplate.queryForObject(
+            "SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition));
+  }
+
+  private OutboxEventEntity event(final LocalDate day, final OutboxEventStatus status) {
+    return new OutboxEventEntity(
+        UUID.randomUUID(),
+        KafkaTopics.TRANSACTIONS_CREATED,
+        "partition-" + day,
+        "{}",
+        status,
+        day.atTime(12, 0).toInstant(ZoneOffset.UTC));
+  }
+}
@@ -0,0 +1,197 @@
+package io.rafaalberto.transactionstreamprocessor.integration.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionCreatedEvent;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Currency;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionType;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.config.KafkaTopics;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.publisher.KafkaOutboxEventPublisher;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox.OutboxEventEntity;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox.OutboxEventJpaRepository;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox.OutboxEventStatus;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.scheduler.OutboxRelay;
+import io.rafaalberto.transactionstreamprocessor.integration.config.PostgresInitializer;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import tools.jackson.databind.ObjectMapper;
+
+@SpringBootTest(properties = "outbox.fixed-delay-ms=3600000")
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = {PostgresInitializer.class})
+class OutboxRelayConcurrencyIntegrationTest {
+
+  private static final int EVENTS = 500;
+  private static final int INSTANCES = 4;
+  private static final int ACCOUNTS = 20;
+  private static final int LANES = 16;
+  private static final long ACK_LATENCY_MS = 50;
+
+  @Autowired private OutboxRelay outboxRelay;
+
+  @Autowired private OutboxEventJpaRepository outboxEventJpaRepository;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  @MockitoBean private KafkaOutboxEventPublisher publisher;
+
+  @BeforeEach
+  void setup() {
+    when(publisher.publish(any(), any(), any()))
+        .thenReturn(CompletableFuture.completedFuture(null));
+  }
+
+  @Test
+  void shouldPublishEachEventOnceAndInOrderPerAccountWhenRelayingFromConcurrentInstances()
+      throws Exception {
+    var prefix = "relay-concurrency-" + UUID.randomUUID() + "-";
+    var createdAt = Instant.now();
+    var entities =
+        IntStream.range(0, EVENTS)
+            .mapToObj(
+                index ->
+                    pendingEvent(
+                        prefix + "account-" + index % ACCOUNTS,
+                        prefix + index,
+                        createdAt.plusMillis(index)))
+            .toList();
+    outboxEventJpaRepository.saveAll(entities);
+
+    relayUntilDrained(INSTANCES, 100);
+
+    var keyCaptor = ArgumentCaptor.forClass(String.class);
+    var payloadCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(publisher, atLeast(EVENTS))
+        .publish(any(), keyCaptor.capture(), payloadCaptor.capture());
+
+    var publishedByAccount = new HashMap<String, List<Integer>>();
+    for (int call = 0; call < keyCaptor.getAllValues().size(); call++) {
+      var key = keyCaptor.getAllValues().get(call);
+      if (key != null && key.startsWith(prefix)) {
+        var event =
+            objectMapper.readValue(
+                payloadCaptor.getAllValues().get(call), TransactionCreatedEvent.class);
+        var index = Integer.parseInt(event.externalReference().substring(prefix.length()));
+        publishedByAccount.computeIfAbsent(key, account -> new ArrayList<>()).add(index);
+      }
+    }
+
+    assertThat(publishedByAccount).hasSize(ACCOUNTS);
+    assertThat(publishedByAccount.values().stream().flatMap(List::stream))
+        .hasSize(EVENTS)
+        .doesNotHaveDuplicates();
+    assertThat(publishedByAccount.values()).allSatisfy(indexes -> assertThat(indexes).isSorted());
+    var ids = entities.stream().map(OutboxEventEntity::getId).toList();
+    assertThat(outboxEventJpaRepository.findAllById(ids))
+        .allMatch(entity -> entity.getStatus() == OutboxEventStatus.SENT);
+  }
+
+  @Test
+  void shouldRelayFasterAsInstancesAreAdded() throws Exception {
+    when(publisher.publish(any(), any(), any()))
+        .thenAnswer(
+            invocation ->
+                CompletableFuture.runAsync(
+                    () -> {},
+                    CompletableFuture.delayedExecutor(ACK_LATENCY_MS, TimeUnit.MILLISECONDS)));
+
+    var single = timeToDrain(1);
+    var several = timeToDrain(INSTANCES);
+
+    // each lane's batch waits for its acks, so instances holding other lanes overlap that wait
+    assertThat(several).isLessThan(single.dividedBy(2));
+  }
+
+  private Duration timeToDrain(final int instances) throws Exception {
+    var prefix = "relay-throughput-" + UUID.randomUUID() + "-";
+    var createdAt = Instant.now();
+    outboxEventJpaRepository.saveAll(
+        IntStream.range(0, EVENTS)
+            .mapToObj(
+                index ->
+                    pendingEvent(
+                        prefix + "account-" + index % ACCOUNTS,
+                        prefix + index,
+                        createdAt.plusMillis(index)))
+            .toList());
+    var start = System.nanoTime();
+    relayUntilDrained(instances, 10);
+    return Duration.ofNanos(System.nanoTime() - start);
+  }
+
+  // Each instance mirrors OutboxScheduler with one worker: walk every lane, skip the ones another
+  // instance holds, and stop after a pass that claimed nothing.
+  private void relayUntilDrained(final int instances, final int batchSize) throws Exception {
+    try (var executor = Executors.newFixedThreadPool(instances)) {
+      var start = new CountDownLatch(1);
+      var relays = new ArrayList<Callable<Integer>>();
+      for (int instance = 0; instance < instances; instance++) {
+        var offset = instance * LANES / instances;
+        relays.add(
+            () -> {
+              start.await();
+              int relayed = 0;
+              int claimed;
+              do {
+                claimed = 0;
+                for (int index = 0; index < LANES; index++) {
+                  claimed +=
+                      outboxRelay.relayBatch((offset + index) % LANES, LANES, batchSize).orElse(0);
+                }
+                relayed += claimed;
+              } while (claimed > 0);
+              return relayed;
+            });
+      }
+      var results = relays.stream().map(executor::submit).toList();
+      start.countDown();
+      for (var result : results) {
+        result.get();
+      }
+    }
+  }
+
+  private OutboxEventEntity pendingEvent(
+      final String key, final String externalReference, final Instant createdAt) {
+    var event =
+        new TransactionCreatedEvent(
+            UUID.randomUUID(),
+            BigDecimal.TEN,
+            Currency.BRL,
+            UUID.randomUUID(),
+            TransactionType.CREDIT,
+            Instant.parse("2025-03-23T11:00:00Z"),
+            Instant.now(),
+            externalReference);
+    return new OutboxEventEntity(
+        UUID.randomUUID(),
+        KafkaTopics.TRANSACTIONS_CREATED,
+        key,
+        objectMapper.writeValueAsString(event),
+        OutboxEventStatus.PENDING,
+        createdAt);
+  }
+}
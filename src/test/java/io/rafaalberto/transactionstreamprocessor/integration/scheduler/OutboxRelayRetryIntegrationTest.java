@@ -0,0 +1,84 @@
+package io.rafaalberto.transactionstreamprocessor.integration.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.rafaalberto.transactionstreamprocessor.infrastructure.config.KafkaTopics;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.publisher.KafkaOutboxEventPublisher;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox.OutboxEventEntity;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox.OutboxEventJpaRepository;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox.OutboxEventStatus;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.scheduler.OutboxRelay;
+import io.rafaalberto.transactionstreamprocessor.integration.config.PostgresInitializer;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest(properties = "outbox.fixed-delay-ms=3600000")
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = {PostgresInitializer.class})
+class OutboxRelayRetryIntegrationTest {
+
+  @Autowired private OutboxRelay outboxRelay;
+
+  @Autowired private OutboxEventJpaRepository outboxEventJpaRepository;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @MockitoBean private KafkaOutboxEventPublisher publisher;
+
+  @BeforeEach
+  void setup() {
+    when(publisher.publish(any(), any(), any()))
+        .thenReturn(CompletableFuture.completedFuture(null));
+  }
+
+  @Test
+  void shouldSkipEventsQueuedBehindABackedOffEventOfTheSameKey() {
+    var brokenKey = "retry-broken-" + UUID.randomUUID();
+    var healthyKey = "retry-healthy-" + UUID.randomUUID();
+    var createdAt = Instant.now().minusSeconds(60);
+    var backedOff = outboxEventJpaRepository.save(event(brokenKey, createdAt));
+    var queuedBehind = outboxEventJpaRepository.save(event(brokenKey, createdAt.plusSeconds(1)));
+    var healthy = outboxEventJpaRepository.save(event(healthyKey, createdAt.plusSeconds(2)));
+    jdbcTemplate.update(
+        "UPDATE outbox_events SET attempts = 1, next_attempt_at = now() + interval '1 hour'"
+            + " WHERE id = ?",
+        backedOff.getId());
+
+    while (outboxRelay.relayBatch(0, 1, 100).orElse(0) > 0) {
+      // drain every event that is due
+    }
+
+    verify(publisher).publish(eq(KafkaTopics.TRANSACTIONS_CREATED), eq(healthyKey), any());
+    verify(publisher, never()).publish(any(), eq(brokenKey), any());
+    assertThat(outboxEventJpaRepository.findById(healthy.getId()))
+        .hasValueSatisfying(
+            entity -> assertThat(entity.getStatus()).isEqualTo(OutboxEventStatus.SENT));
+    assertThat(outboxEventJpaRepository.findById(queuedBehind.getId()))
+        .hasValueSatisfying(
+            entity -> assertThat(entity.getStatus()).isEqualTo(OutboxEventStatus.PENDING));
+  }
+
+  private OutboxEventEntity event(final String key, final Instant createdAt) {
+    return new OutboxEventEntity(
+        UUID.randomUUID(),
+        KafkaTopics.TRANSACTIONS_CREATED,
+        key,
+        "{}",
+        OutboxEventStatus.PENDING,
+        createdAt);
+  }
+}
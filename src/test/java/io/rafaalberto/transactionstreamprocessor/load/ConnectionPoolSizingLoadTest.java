@@ -0,0 +1,200 @@
+package io.rafaalberto.transactionstreamprocessor.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionCreatedEvent;
+import io.rafaalberto.transactionstreamprocessor.application.publisher.TransactionProcessedEventPublisher;
+import io.rafaalberto.transactionstreamprocessor.application.repository.TransactionRepository;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.AccountID;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Currency;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Money;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Transaction;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionType;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.consumer.TransactionCreatedEventHandler;
+import io.rafaalberto.transactionstreamprocessor.integration.config.PostgresInitializer;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+// Drives the real create (HTTP -> transaction + outbox row) and consume (load, mark processed)
+// paths on virtual threads at fractions and multiples of the connection pool. The pool is what
+// bounds throughput: past it, extra concurrency only queues on Hikari, so worker limits are sized
+// against the pool rather than raised with virtual threads.
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+      "spring.threads.virtual.enabled=true",
+      "outbox.fixed-delay-ms=3600000",
+      "outbox.notify.enabled=false"
+    })
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = {PostgresInitializer.class})
+class ConnectionPoolSizingLoadTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ConnectionPoolSizingLoadTest.class);
+
+  private static final int OPERATIONS_PER_LEVEL = 2_000;
+  private static final Instant OCCURRED_AT = Instant.parse("2025-03-23T11:00:00Z");
+
+  @Value("${local.server.port}")
+  private int port;
+
+  @Value("${spring.datasource.hikari.maximum-pool-size}")
+  private int poolSize;
+
+  @Value("${kafka.consumer.parallel.workers}")
+  private int consumerWorkers;
+
+  @Value("${outbox.relay.workers}")
+  private int relayWorkers;
+
+  @Autowired private TransactionRepository transactionRepository;
+
+  @Autowired private TransactionCreatedEventHandler transactionCreatedEventHandler;
+
+  @MockitoBean private TransactionProcessedEventPublisher transactionProcessedPublisher;
+
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+
+  @Test
+  void shouldSaturateTheCreatePathAtThePoolSize() throws Exception {
+    var accountId = UUID.randomUUID();
+    var throughput =
+        measure(
+            "create",
+            () ->
+                () -> {
+                  var response =
+                      httpClient.send(
+                          createRequest(accountId, "sizing-" + UUID.randomUUID()),
+                          HttpResponse.BodyHandlers.discarding());
+                  return response.statusCode() == 201;
+                });
+
+    assertPoolBoundsThroughput(throughput);
+  }
+
+  @Test
+  void shouldSaturateTheConsumePathAtThePoolSize() throws Exception {
+    var accountId = UUID.randomUUID();
+    var throughput =
+        measure(
+            "consume",
+            () -> {
+              var events =
+                  IntStream.range(0, OPERATIONS_PER_LEVEL)
+                      .mapToObj(index -> createdEvent(accountId))
+                      .toList();
+              var next = new AtomicInteger();
+              return () -> {
+                transactionCreatedEventHandler.handle(events.get(next.getAndIncrement()));
+                return true;
+              };
+            });
+
+    assertPoolBoundsThroughput(throughput);
+  }
+
+  // the budget the pool is sized for: every parallel consumer and relay worker holds a
+  // connection at once and request threads still find free ones
+  @Test
+  void shouldLeaveConnectionsForRequestsAfterTheBoundedWorkers() {
+    assertThat(consumerWorkers + relayWorkers).isLessThanOrEqualTo(poolSize / 2);
+  }
+
+  private void assertPoolBoundsThroughput(final Map<Integer, Double> throughput) {
+    var atPool = throughput.get(poolSize);
+    var beyondPool = throughput.get(poolSize * 4);
+    // virtual threads queueing on the pool must not cost throughput or time out on Hikari
+    assertThat(beyondPool).isGreaterThan(atPool * 0.8);
+  }
+
+  private Map<Integer, Double> measure(
+      final String path, final Supplier<Callable<Boolean>> operations) throws Exception {
+    var throughput = new LinkedHashMap<Integer, Double>();
+    for (var concurrency : List.of(poolSize / 2, poolSize, poolSize * 2, poolSize * 4)) {
+      var operation = operations.get();
+      var permits = new Semaphore(concurrency);
+      var start = System.nanoTime();
+      try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+        var results =
+            IntStream.range(0, OPERATIONS_PER_LEVEL)
+                .mapToObj(
+                    index ->
+                        executor.submit(
+                            () -> {
+                              permits.acquire();
+                              try {
+                                return operation.call();
+                              } finally {
+                                permits.release();
+                              }
+                            }))
+                .toList();
+        for (var result : results) {
+          assertThat(result.get()).isTrue();
+        }
+      }
+      var elapsed = Duration.ofNanos(System.nanoTime() - start);
+      var perSecond = OPERATIONS_PER_LEVEL * 1_000.0 / Math.max(1, elapsed.toMillis());
+      throughput.put(concurrency, perSecond);
+      LOGGER.info(
+          "{} path: pool={} concurrency={} throughput={}/s",
+          path,
+          poolSize,
+          concurrency,
+          Math.round(perSecond));
+    }
+    return throughput;
+  }
+
+  private HttpRequest createRequest(final UUID accountId, final String externalReference) {
+    var body =
+        "{\"amount\":10.50,\"currency\":\"BRL\",\"type\":\"CREDIT\",\"accountId\":\""
+            + accountId
+            + "\",\"occurredAt\":\"2025-03-23T11:00:00Z\",\"externalReference\":\""
+            + externalReference
+            + "\"}";
+    return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/transactions"))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .build();
+  }
+
+  private TransactionCreatedEvent createdEvent(final UUID accountId) {
+    var transaction =
+        transactionRepository
+            .insertIfAbsent(
+                Transaction.create(
+                    new Money(BigDecimal.TEN, Currency.BRL),
+                    TransactionType.CREDIT,
+                    new AccountID(accountId),
+                    OCCURRED_AT,
+                    "sizing-" + UUID.randomUUID()))
+            .orElseThrow();
+    return TransactionCreatedEvent.from(transaction);
+  }
+}
@@ -0,0 +1,183 @@
+package io.rafaalberto.transactionstreamprocessor.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.config.KafkaTopics;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.publisher.KafkaOutboxEventPublisher;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.scheduler.OutboxRelay;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.scheduler.OutboxRelayController;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.scheduler.OutboxScheduler;
+import io.rafaalberto.transactionstreamprocessor.integration.config.PostgresInitializer;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest(properties = {"outbox.fixed-delay-ms=3600000", "outbox.notify.enabled=false"})
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = {PostgresInitializer.class})
+class OutboxBacklogRecoveryLoadTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(OutboxBacklogRecoveryLoadTest.class);
+
+  private static final int BACKLOG = 10_000;
+  private static final int ACCOUNTS = 200;
+  private static final int LANES = 2;
+  private static final int MAX_BATCH_SIZE = 1000;
+  private static final long IDLE_CEILING_MS = 10_000;
+  private static final Duration IDLE_WINDOW = Duration.ofSeconds(3);
+  private static final long NOTIFY_INTERVAL_MS = 5;
+
+  @Autowired private OutboxRelay outboxRelay;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @MockitoBean private KafkaOutboxEventPublisher publisher;
+
+  @BeforeEach
+  void setup() {
+    when(publisher.publish(any(), any(), any()))
+        .thenAnswer(
+            invocation ->
+                CompletableFuture.runAsync(
+                    () -> {}, CompletableFuture.delayedExecutor(2, TimeUnit.MILLISECONDS)));
+  }
+
+  // The fixed baseline is tuned for recovery: the largest batch the adaptive controller may use
+  // and no delay at all. Adaptive has to match its recovery while idling far more cheaply.
+  @Test
+  void shouldRecoverAsFastAsATunedFixedScheduleWhileIdlingFarLess() throws Exception {
+    var fixed = run(fixedController(), false);
+    var adaptive = run(adaptiveController(), false);
+
+    LOGGER.info(
+        "Outbox backlog of {} events. fixed: recovery={}ms idlePasses={}, "
+            + "adaptive: recovery={}ms idlePasses={}",
+        BACKLOG,
+        fixed.recovery().toMillis(),
+        fixed.idlePasses(),
+        adaptive.recovery().toMillis(),
+        adaptive.idlePasses());
+    assertThat(adaptive.recovery()).isLessThan(fixed.recovery().multipliedBy(3).dividedBy(2));
+    assertThat(adaptive.idlePasses()).isLessThan(fixed.idlePasses() / 10);
+  }
+
+  // NOTIFY wakeups arriving during a pass must not read as idle lanes and shrink the batch.
+  @Test
+  void shouldKeepGrowingTheBatchWhileNotifyWakeupsOverlapScheduledPasses() throws Exception {
+    var quiet = run(adaptiveController(), false);
+    var notified = run(adaptiveController(), true);
+
+    LOGGER.info(
+        "Outbox backlog of {} events. quiet: recovery={}ms peakBatch={}, "
+            + "with notify: recovery={}ms peakBatch={}",
+        BACKLOG,
+        quiet.recovery().toMillis(),
+        quiet.peakBatchSize(),
+        notified.recovery().toMillis(),
+        notified.peakBatchSize());
+    assertThat(notified.peakBatchSize()).isEqualTo(MAX_BATCH_SIZE);
+    assertThat(notified.recovery()).isLessThan(quiet.recovery().multipliedBy(3).dividedBy(2));
+  }
+
+  private static OutboxRelayController fixedController() {
+    return new OutboxRelayController(
+        MAX_BATCH_SIZE, MAX_BATCH_SIZE, MAX_BATCH_SIZE, 0, 0, new SimpleMeterRegistry());
+  }
+
+  private static OutboxRelayController adaptiveController() {
+    return new OutboxRelayController(
+        100, 10, MAX_BATCH_SIZE, 0, IDLE_CEILING_MS, new SimpleMeterRegistry());
+  }
+
+  private Run run(final OutboxRelayController controller, final boolean notifyDuringRecovery)
+      throws Exception {
+    var prefix = "load-" + UUID.randomUUID() + "-";
+    seedBacklog(prefix);
+    try (var executor = Executors.newFixedThreadPool(LANES);
+        var notifier = Executors.newSingleThreadExecutor()) {
+      var scheduler = new OutboxScheduler(outboxRelay, controller, executor, LANES, LANES);
+      var recovering = new AtomicBoolean(true);
+      if (notifyDuringRecovery) {
+        notifier.submit(() -> notifyWhile(recovering, scheduler));
+      }
+
+      var start = System.nanoTime();
+      var peakBatchSize = 0;
+      while (pending(prefix) > 0) {
+        scheduler.relay();
+        peakBatchSize = Math.max(peakBatchSize, controller.batchSize());
+        Thread.sleep(controller.delay().toMillis());
+      }
+      var recovery = Duration.ofNanos(System.nanoTime() - start);
+      recovering.set(false);
+
+      var idleUntil = System.nanoTime() + IDLE_WINDOW.toNanos();
+      var idlePasses = 0;
+      while (System.nanoTime() < idleUntil) {
+        scheduler.relay();
+        idlePasses++;
+        Thread.sleep(controller.delay().toMillis());
+      }
+      return new Run(recovery, peakBatchSize, idlePasses);
+    }
+  }
+
+  private static Void notifyWhile(final AtomicBoolean recovering, final OutboxScheduler scheduler)
+      throws InterruptedException {
+    while (recovering.get()) {
+      scheduler.relay();
+      Thread.sleep(NOTIFY_INTERVAL_MS);
+    }
+    return null;
+  }
+
+  private void seedBacklog(final String prefix) {
+    var createdAt = Timestamp.from(Instant.now().minusSeconds(60));
+    var rows =
+        IntStream.range(0, BACKLOG)
+            .mapToObj(
+                index ->
+                    new Object[] {
+                      UUID.randomUUID(),
+                      KafkaTopics.TRANSACTIONS_CREATED,
+                      prefix + index % ACCOUNTS,
+                      "{\"index\":" + index + "}",
+                      createdAt
+                    })
+            .toList();
+    jdbcTemplate.batchUpdate(
+        """
+        INSERT INTO outbox_events (id, topic, message_key, payload, status, created_at)
+        VALUES (?, ?, ?, ?::jsonb, 'PENDING', ?)
+        """,
+        rows);
+  }
+
+  private record Run(Duration recovery, int peakBatchSize, int idlePasses) {}
+
+  private long pending(final String prefix) {
+    return jdbcTemplate.queryForObject(
+        "SELECT count(*) FROM outbox_events WHERE status = 'PENDING' AND message_key LIKE ?",
+        Long.class,
+        prefix + "%");
+  }
+}
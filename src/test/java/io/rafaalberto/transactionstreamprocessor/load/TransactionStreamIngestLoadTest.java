@@ -0,0 +1,243 @@
+package io.rafaalberto.transactionstreamprocessor.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.rafaalberto.transactionstreamprocessor.integration.config.PostgresInitializer;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"outbox.fixed-delay-ms=3600000", "outbox.notify.enabled=false"})
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = {PostgresInitializer.class})
+class TransactionStreamIngestLoadTest {
+
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(TransactionStreamIngestLoadTest.class);
+
+  private static final long UPLOAD_BYTES = Long.getLong("ingest.load.bytes", 2L << 30);
+  private static final int CHUNK_BYTES = 64 * 1024;
+  private static final long HEAP_SAMPLE_INTERVAL_MS = 200;
+
+  @Value("${local.server.port}")
+  private int port;
+
+  @Test
+  void shouldIngestUploadSeveralTimesLargerThanTheHeap() throws Exception {
+    assertThat(UPLOAD_BYTES).isGreaterThan(4 * Runtime.getRuntime().maxMemory());
+    var prefix = "load-" + UUID.randomUUID() + "-";
+
+    var start = System.nanoTime();
+    var uploading = new AtomicBoolean(true);
+    var peakHeapAfterGc = new AtomicLong();
+    try (var socket = new Socket("localhost", port);
+        var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      executor.submit(() -> sampleHeapAfterGc(uploading, peakHeapAfterGc));
+      var upload = executor.submit(() -> upload(socket.getOutputStream(), prefix));
+      var results = readResults(socket.getInputStream());
+      var lines = upload.get();
+      uploading.set(false);
+      var elapsed = Duration.ofNanos(System.nanoTime() - start);
+      var maxHeap = Runtime.getRuntime().maxMemory();
+
+      LOGGER.info(
+          "Streamed {} MiB ({} lines) in {}s, maxHeap={} MiB, peakHeap={} MiB, "
+              + "peakHeapAfterGc={} MiB",
+          UPLOAD_BYTES >> 20,
+          lines,
+          elapsed.toSeconds(),
+          maxHeap >> 20,
+          peakHeapUsed() >> 20,
+          peakHeapAfterGc.get() >> 20);
+      assertThat(results.total()).isEqualTo(lines);
+      assertThat(results.rejected()).isZero();
+      // garbage aside, the heap holds one chunk plus the reference filter, not the upload
+      assertThat(peakHeapAfterGc.get()).isPositive().isLessThan(maxHeap * 6 / 10);
+    }
+  }
+
+  private long upload(final OutputStream socketOutput, final String prefix) throws IOException {
+    var output = new BufferedOutputStream(socketOutput, CHUNK_BYTES + 16);
+    output.write(
+        ("POST /transactions/stream HTTP/1.1\r\n"
+                + "Host: localhost\r\n"
+                + "Content-Type: application/x-ndjson\r\n"
+                + "Accept: application/x-ndjson\r\n"
+                + "Transfer-Encoding: chunked\r\n"
+                + "Connection: close\r\n\r\n")
+            .getBytes(StandardCharsets.US_ASCII));
+
+    var chunk = new byte[CHUNK_BYTES];
+    var filled = 0;
+    long sent = 0;
+    long lines = 0;
+    var accountId = UUID.randomUUID();
+    while (sent < UPLOAD_BYTES) {
+      var line = line(accountId, prefix + lines);
+      if (filled + line.length > chunk.length) {
+        writeChunk(output, chunk, filled);
+        filled = 0;
+      }
+      System.arraycopy(line, 0, chunk, filled, line.length);
+      filled += line.length;
+      sent += line.length;
+      lines++;
+    }
+    writeChunk(output, chunk, filled);
+    output.write("0\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+    output.flush();
+    return lines;
+  }
+
+  private static void writeChunk(final OutputStream output, final byte[] chunk, final int length)
+      throws IOException {
+    if (length == 0) {
+      return;
+    }
+    output.write((Integer.toHexString(length) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+    output.write(chunk, 0, length);
+    output.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+  }
+
+  private static byte[] line(final UUID accountId, final String externalReference) {
+    return ("{\"amount\":10.50,\"currency\":\"BRL\",\"type\":\"CREDIT\",\"accountId\":\""
+            + accountId
+            + "\",\"occurredAt\":\"2025-03-23T11:00:00Z\",\"externalReference\":\""
+            + externalReference
+            + "\"}\n")
+        .getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static Results readResults(final InputStream socketInput) throws IOException {
+    var input = new ChunkedInputStream(new BufferedInputStream(socketInput));
+    assertThat(input.statusLine()).startsWith("HTTP/1.1 200");
+
+    var reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    long total = 0;
+    long rejected = 0;
+    String line;
+    while ((line = reader.readLine()) != null) {
+      total++;
+      if (line.contains("\"outcome\":\"REJECTED\"")) {
+        rejected++;
+      }
+    }
+    return new Results(total, rejected);
+  }
+
+  private static Void sampleHeapAfterGc(final AtomicBoolean uploading, final AtomicLong peak)
+      throws InterruptedException {
+    while (uploading.get()) {
+      var afterGc =
+          ManagementFactory.getMemoryPoolMXBeans().stream()
+              .filter(pool -> pool.getType() == MemoryType.HEAP)
+              .map(MemoryPoolMXBean::getCollectionUsage)
+              .filter(Objects::nonNull)
+              .mapToLong(MemoryUsage::getUsed)
+              .sum();
+      peak.accumulateAndGet(afterGc, Math::max);
+      TimeUnit.MILLISECONDS.sleep(HEAP_SAMPLE_INTERVAL_MS);
+    }
+    return null;
+  }
+
+  private static long peakHeapUsed() {
+    return ManagementFactory.getMemoryPoolMXBeans().stream()
+        .filter(pool -> pool.getType() == MemoryType.HEAP)
+        .mapToLong(pool -> pool.getPeakUsage().getUsed())
+        .sum();
+  }
+
+  private record Results(long total, long rejected) {}
+
+  // Minimal HTTP/1.1 response reader: consumes the head, then de-chunks the body.
+  private static final class ChunkedInputStream extends InputStream {
+
+    private final InputStream input;
+    private final String statusLine;
+    private long remaining;
+    private boolean finished;
+
+    ChunkedInputStream(final InputStream input) throws IOException {
+      this.input = input;
+      this.statusLine = readAsciiLine();
+      var header = readAsciiLine();
+      while (!header.isEmpty()) {
+        header = readAsciiLine();
+      }
+    }
+
+    String statusLine() {
+      return statusLine;
+    }
+
+    @Override
+    public int read() throws IOException {
+      var single = new byte[1];
+      return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+      if (remaining == 0 && !nextChunk()) {
+        return -1;
+      }
+      var read = input.read(buffer, offset, (int) Math.min(length, remaining));
+      if (read == -1) {
+        throw new IOException("Connection closed mid-chunk");
+      }
+      remaining -= read;
+      if (remaining == 0) {
+        readAsciiLine();
+      }
+      return read;
+    }
+
+    private boolean nextChunk() throws IOException {
+      if (finished) {
+        return false;
+      }
+      var size = readAsciiLine();
+      remaining = Long.parseLong(size.split(";")[0].trim(), 16);
+      finished = remaining == 0;
+      return !finished;
+    }
+
+    private String readAsciiLine() throws IOException {
+      var line = new StringBuilder();
+      int next;
+      while ((next = input.read()) != -1 && next != '\n') {
+        if (next != '\r') {
+          line.append((char) next);
+        }
+      }
+      return line.toString();
+    }
+  }
+}
@@ -0,0 +1,222 @@
+package io.rafaalberto.transactionstreamprocessor.unit.application.usecases;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.rafaalberto.transactionstreamprocessor.application.cache.ExternalReferenceFilter;
+import io.rafaalberto.transactionstreamprocessor.application.outbox.OutboxEventAppender;
+import io.rafaalberto.transactionstreamprocessor.application.repository.TransactionRepository;
+import io.rafaalberto.transactionstreamprocessor.application.usecases.CreateTransactionBatchUseCase;
+import io.rafaalberto.transactionstreamprocessor.application.usecases.CreateTransactionCommand;
+import io.rafaalberto.transactionstreamprocessor.application.usecases.CreateTransactionResult.Outcome;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.AccountID;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Currency;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Money;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Transaction;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionID;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionStatus;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionType;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CreateTransactionBatchUseCaseTest {
+
+  private static final Instant OCCURRED_AT = Instant.parse("2025-03-23T11:00:00Z");
+  private static final Instant CREATED_AT = Instant.parse("2025-03-23T11:02:30Z");
+  private static final UUID ACCOUNT_ID = UUID.randomUUID();
+
+  private final TransactionRepository repository = mock(TransactionRepository.class);
+  private final OutboxEventAppender outboxEventAppender = mock(OutboxEventAppender.class);
+  private final ExternalReferenceFilter referenceFilter = mock(ExternalReferenceFilter.class);
+  private final CreateTransactionBatchUseCase useCase =
+      new CreateTransactionBatchUseCase(repository, outboxEventAppender, referenceFilter);
+
+  @BeforeEach
+  void setUp() {
+    when(referenceFilter.mightContain(any())).thenReturn(true);
+    when(repository.insertAllIfAbsent(any())).thenAnswer(invocation -> invocation.getArgument(0));
+  }
+
+  @Test
+  void shouldResolveExistingReferencesInOneLookupAndInsertTheRestTogether() {
+    var existing = existingTransaction("settlement-1");
+    when(repository.findAllByExternalReference(any())).thenReturn(List.of(existing));
+
+    var results =
+        useCase.execute(
+            List.of(
+                command("settlement-1", BigDecimal.TEN),
+                command("settlement-2", BigDecimal.TEN),
+                command("settlement-3", BigDecimal.ONE)));
+
+    assertThat(results)
+        .extracting(result -> result.outcome())
+        .containsExactly(Outcome.ALREADY_EXISTS, Outcome.CREATED, Outcome.CREATED);
+    assertThat(results.getFirst().transaction().id()).isEqualTo(existing.id());
+
+    verify(repository)
+        .findAllByExternalReference(List.of("settlement-1", "settlement-2", "settlement-3"));
+    verify(repository).insertAllIfAbsent(argThat(transactions -> transactions.size() == 2));
+    verify(outboxEventAppender)
+        .appendAll(
+            argThat(
+                events ->
+                    events.size() == 2
+                        && events.stream()
+                            .allMatch(
+                                event ->
+                                    event.topic().equals("transactions.created")
+                                        && event.key().equals(ACCOUNT_ID.toString()))));
+  }
+
+  @Test
+  void shouldCreateRepeatedReferenceWithinBatchOnlyOnce() {
+    when(repository.findAllByExternalReference(any())).thenReturn(List.of());
+
+    var results =
+        useCase.execute(
+            List.of(
+                command("settlement-1", BigDecimal.TEN), command("settlement-1", BigDecimal.TEN)));
+
+    assertThat(results)
+        .extracting(result -> result.outcome())
+        .containsExactly(Outcome.CREATED, Outcome.ALREADY_EXISTS);
+    assertThat(results.get(1).transaction()).isSameAs(results.get(0).transaction());
+    verify(repository).insertAllIfAbsent(argThat(transactions -> transactions.size() == 1));
+  }
+
+  @Test
+  void shouldReportARepeatedReferenceAsTheRowOfItsFirstItem() {
+    when(repository.findAllByExternalReference(any())).thenReturn(List.of());
+
+    var results =
+        useCase.execute(
+            List.of(
+                command("settlement-1", BigDecimal.TEN),
+                command("settlement-2", BigDecimal.TEN),
+                command("settlement-1", BigDecimal.ONE)));
+
+    assertThat(results)
+        .extracting(result -> result.outcome())
+        .containsExactly(Outcome.CREATED, Outcome.CREATED, Outcome.ALREADY_EXISTS);
+    assertThat(results.get(2).transaction().id()).isEqualTo(results.getFirst().transaction().id());
+    assertThat(results.get(2).transaction().money().amount()).isEqualTo(BigDecimal.TEN);
+    verify(repository).insertAllIfAbsent(argThat(transactions -> transactions.size() == 2));
+    verify(outboxEventAppender).appendAll(argThat(events -> events.size() == 2));
+  }
+
+  @Test
+  void shouldRejectInvalidItemsWithoutFailingTheBatch() {
+    when(repository.findAllByExternalReference(any())).thenReturn(List.of());
+
+    var results =
+        useCase.execute(
+            List.of(
+                command("settlement-1", BigDecimal.ZERO), command("settlement-2", BigDecimal.TEN)));
+
+    assertThat(results.getFirst().outcome()).isEqualTo(Outcome.REJECTED);
+    assertThat(results.getFirst().error()).isEqualTo("Money amount must be greater than zero");
+    assertThat(results.get(1).outcome()).isEqualTo(Outcome.CREATED);
+    verify(repository).insertAllIfAbsent(argThat(transactions -> transactions.size() == 1));
+  }
+
+  @Test
+  void shouldNotWriteWhenNothingIsNew() {
+    when(repository.findAllByExternalReference(any()))
+        .thenReturn(List.of(existingTransaction("settlement-1")));
+
+    var results = useCase.execute(List.of(command("settlement-1", BigDecimal.TEN)));
+
+    assertThat(results.getFirst().outcome()).isEqualTo(Outcome.ALREADY_EXISTS);
+    verify(repository, never()).insertAllIfAbsent(any());
+    verify(outboxEventAppender, never()).appendAll(any());
+  }
+
+  @Test
+  void shouldLookUpOnlyReferencesTheFilterCannotRuleOut() {
+    when(referenceFilter.mightContain("settlement-2")).thenReturn(false);
+    when(referenceFilter.mightContain("settlement-3")).thenReturn(false);
+    when(repository.findAllByExternalReference(any())).thenReturn(List.of());
+
+    var results =
+        useCase.execute(
+            List.of(
+                command("settlement-1", BigDecimal.TEN),
+                command("settlement-2", BigDecimal.TEN),
+                command("settlement-3", BigDecimal.TEN)));
+
+    assertThat(results)
+        .extracting(result -> result.outcome())
+        .containsOnly(Outcome.CREATED);
+    verify(repository).findAllByExternalReference(List.of("settlement-1"));
+    verify(referenceFilter).recordFalsePositives(1);
+    verify(referenceFilter).addAll(List.of("settlement-1", "settlement-2", "settlement-3"));
+    verify(repository).insertAllIfAbsent(argThat(transactions -> transactions.size() == 3));
+  }
+
+  @Test
+  void shouldSkipTheLookupWhenEveryReferenceIsDefinitelyNew() {
+    when(referenceFilter.mightContain(any())).thenReturn(false);
+
+    var results = useCase.execute(List.of(command("settlement-1", BigDecimal.TEN)));
+
+    assertThat(results.getFirst().outcome()).isEqualTo(Outcome.CREATED);
+    verify(repository, never()).findAllByExternalReference(any());
+    verify(repository).insertAllIfAbsent(argThat(transactions -> transactions.size() == 1));
+  }
+
+  @Test
+  void shouldReportReferenceStoredByAnotherInstanceAsExistingWhenTheFilterIsStale() {
+    var stored = existingTransaction("settlement-1");
+    when(referenceFilter.mightContain(any())).thenReturn(false);
+    when(repository.insertAllIfAbsent(any()))
+        .thenAnswer(
+            invocation ->
+                invocation.<List<Transaction>>getArgument(0).stream()
+                    .filter(transaction -> !transaction.externalReference().equals("settlement-1"))
+                    .toList());
+    when(repository.findAllByExternalReference(List.of("settlement-1")))
+        .thenReturn(List.of(stored));
+
+    var results =
+        useCase.execute(
+            List.of(
+                command("settlement-1", BigDecimal.TEN),
+                command("settlement-2", BigDecimal.TEN),
+                command("settlement-1", BigDecimal.TEN)));
+
+    assertThat(results)
+        .extracting(result -> result.outcome())
+        .containsExactly(Outcome.ALREADY_EXISTS, Outcome.CREATED, Outcome.ALREADY_EXISTS);
+    assertThat(results.getFirst().transaction().id()).isEqualTo(stored.id());
+    assertThat(results.get(2).transaction().id()).isEqualTo(stored.id());
+    verify(outboxEventAppender).appendAll(argThat(events -> events.size() == 1));
+  }
+
+  private static CreateTransactionCommand command(
+      final String externalReference, final BigDecimal amount) {
+    return new CreateTransactionCommand(
+        amount, Currency.BRL, TransactionType.CREDIT, ACCOUNT_ID, OCCURRED_AT, externalReference);
+  }
+
+  private static Transaction existingTransaction(final String externalReference) {
+    return Transaction.restore(
+        TransactionID.random(),
+        new Money(BigDecimal.TEN, Currency.BRL),
+        TransactionType.CREDIT,
+        new AccountID(ACCOUNT_ID),
+        OCCURRED_AT,
+        CREATED_AT,
+        TransactionStatus.CREATED,
+        externalReference);
+  }
+}
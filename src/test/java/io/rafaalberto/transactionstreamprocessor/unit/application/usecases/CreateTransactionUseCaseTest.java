@@ -1,6 +1,7 @@
 package io.rafaalberto.transactionstreamprocessor.unit.application.usecases;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
@@ -9,6 +10,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.rafaalberto.transactionstreamprocessor.application.cache.ExternalReferenceFilter;
 import io.rafaalberto.transactionstreamprocessor.application.outbox.OutboxEventAppender;
 import io.rafaalberto.transactionstreamprocessor.application.repository.TransactionRepository;
 import io.rafaalberto.transactionstreamprocessor.application.usecases.CreateTransactionCommand;
@@ -22,6 +24,7 @@ import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionS
 import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionType;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
@@ -31,6 +34,8 @@ class CreateTransactionUseCaseTest {
   private static final Instant OCCURRED_AT = Instant.parse("2025-03-23T11:00:00Z");
   private static final Instant CREATED_AT = Instant.parse("2025-03-23T11:02:30Z");
 
+  private final ExternalReferenceFilter referenceFilter = mock(ExternalReferenceFilter.class);
+
   @Test
   void shouldCreateTransactionWhenCommandIsValid() {
     var amount = BigDecimal.valueOf(100);
@@ -46,8 +51,9 @@ class CreateTransactionUseCaseTest {
     var repository = mock(TransactionRepository.class);
     var outboxEventAppender = mock(OutboxEventAppender.class);
 
-    var useCase = new CreateTransactionUseCase(repository, outboxEventAppender);
-    when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    var useCase = new CreateTransactionUseCase(repository, outboxEventAppender, referenceFilter);
+    when(repository.insertIfAbsent(any()))
+        .thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
 
     var result = useCase.execute(command);
 
@@ -60,9 +66,15 @@ class CreateTransactionUseCaseTest {
     assertThat(result.status()).isEqualTo(TransactionStatus.CREATED);
     assertThat(result.externalReference()).isEqualTo(externalReference);
 
-    verify(repository).save(argThat(tx -> tx.status() == TransactionStatus.CREATED));
+    verify(repository).insertIfAbsent(argThat(tx -> tx.status() == TransactionStatus.CREATED));
+    verify(repository, never()).findByExternalReference(any());
+    verify(referenceFilter).addAll(List.of(externalReference));
     verify(outboxEventAppender, times(1))
-        .append(argThat(event -> event.topic().equals("transactions.created")));
+        .append(
+            argThat(
+                event ->
+                    event.topic().equals("transactions.created")
+                        && event.key().equals(accountId.toString())));
   }
 
   @Test
@@ -94,7 +106,8 @@ class CreateTransactionUseCaseTest {
     var repository = mock(TransactionRepository.class);
     var outboxEventAppender = mock(OutboxEventAppender.class);
 
-    var useCase = new CreateTransactionUseCase(repository, outboxEventAppender);
+    var useCase = new CreateTransactionUseCase(repository, outboxEventAppender, referenceFilter);
+    when(repository.insertIfAbsent(any())).thenReturn(Optional.empty());
     when(repository.findByExternalReference(externalReference))
         .thenReturn(Optional.of(transaction));
 
@@ -109,8 +122,32 @@ class CreateTransactionUseCaseTest {
     assertThat(result.status()).isEqualTo(TransactionStatus.CREATED);
     assertThat(result.externalReference()).isEqualTo(externalReference);
 
+    verify(repository).insertIfAbsent(any());
     verify(repository).findByExternalReference(externalReference);
-    verify(repository, never()).save(any());
+    verify(outboxEventAppender, never()).append(any());
+  }
+
+  @Test
+  void shouldFailWhenConflictIsReportedButTransactionIsNotFound() {
+    var command =
+        new CreateTransactionCommand(
+            BigDecimal.TEN,
+            Currency.BRL,
+            TransactionType.CREDIT,
+            UUID.randomUUID(),
+            OCCURRED_AT,
+            "account-service::account-123");
+
+    var repository = mock(TransactionRepository.class);
+    var outboxEventAppender = mock(OutboxEventAppender.class);
+
+    var useCase = new CreateTransactionUseCase(repository, outboxEventAppender, referenceFilter);
+    when(repository.insertIfAbsent(any())).thenReturn(Optional.empty());
+    when(repository.findByExternalReference(any())).thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> useCase.execute(command))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Duplicate reported but transaction not found");
     verify(outboxEventAppender, never()).append(any());
   }
 }
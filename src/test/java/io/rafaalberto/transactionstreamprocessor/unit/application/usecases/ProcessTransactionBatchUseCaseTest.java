@@ -0,0 +1,117 @@
+package io.rafaalberto.transactionstreamprocessor.unit.application.usecases;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.rafaalberto.transactionstreamprocessor.application.cache.ProcessedTransactionCache;
+import io.rafaalberto.transactionstreamprocessor.application.repository.TransactionRepository;
+import io.rafaalberto.transactionstreamprocessor.application.usecases.ProcessTransactionBatchUseCase;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.AccountID;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Currency;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Money;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Transaction;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionID;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionStatus;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionType;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.exception.TransactionNotFoundException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ProcessTransactionBatchUseCaseTest {
+
+  private static final Instant OCCURRED_AT = Instant.parse("2025-03-23T11:00:00Z");
+
+  private final TransactionRepository repository = mock(TransactionRepository.class);
+
+  private final ProcessedTransactionCache cache = mock(ProcessedTransactionCache.class);
+
+  private final ProcessTransactionBatchUseCase useCase =
+      new ProcessTransactionBatchUseCase(repository, cache);
+
+  @Test
+  void shouldProcessEveryCreatedTransactionWithOneLoadAndOneUpdate() {
+    var first = createdTransaction("batch-1");
+    var second = createdTransaction("batch-2");
+    var ids = List.of(first.id(), second.id());
+
+    when(repository.findAllById(anyCollection())).thenReturn(List.of(second, first));
+    when(repository.markAsProcessed(ids)).thenReturn(Set.of(first.id(), second.id()));
+
+    var result = useCase.execute(ids);
+
+    assertThat(result).extracting(Transaction::id).containsExactly(first.id(), second.id());
+    assertThat(result).allMatch(tx -> tx.status() == TransactionStatus.PROCESSED);
+    verify(repository).markAsProcessed(ids);
+  }
+
+  @Test
+  void shouldSkipTransactionsAlreadyProcessed() {
+    var created = createdTransaction("batch-3");
+    var processed = createdTransaction("batch-4").process();
+
+    when(repository.findAllById(anyCollection())).thenReturn(List.of(created, processed));
+    when(repository.markAsProcessed(List.of(created.id()))).thenReturn(Set.of(created.id()));
+
+    var result = useCase.execute(List.of(created.id(), processed.id()));
+
+    assertThat(result).extracting(Transaction::id).containsExactly(created.id());
+  }
+
+  @Test
+  void shouldNotReturnTransactionsProcessedConcurrently() {
+    var transaction = createdTransaction("batch-5");
+
+    when(repository.findAllById(anyCollection())).thenReturn(List.of(transaction));
+    when(repository.markAsProcessed(List.of(transaction.id()))).thenReturn(Set.of());
+
+    var result = useCase.execute(List.of(transaction.id()));
+
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  void shouldThrowWhenAnyTransactionIsMissing() {
+    var existing = createdTransaction("batch-6");
+    var missing = TransactionID.random();
+
+    when(repository.findAllById(anyCollection())).thenReturn(List.of(existing));
+
+    assertThatThrownBy(() -> useCase.execute(List.of(existing.id(), missing)))
+        .isInstanceOf(TransactionNotFoundException.class)
+        .hasMessageContaining(missing.value().toString());
+    verify(repository, never()).markAsProcessed(any());
+  }
+
+  @Test
+  void shouldSkipRepositoryWhenEveryTransactionWasRecentlyProcessed() {
+    var first = TransactionID.random();
+    var second = TransactionID.random();
+
+    when(cache.contains(any())).thenReturn(true);
+
+    var result = useCase.execute(List.of(first, second));
+
+    assertThat(result).isEmpty();
+    verifyNoInteractions(repository);
+  }
+
+  private static Transaction createdTransaction(final String externalReference) {
+    return Transaction.create(
+        new Money(BigDecimal.valueOf(100), Currency.BRL),
+        TransactionType.CREDIT,
+        new AccountID(UUID.randomUUID()),
+        OCCURRED_AT,
+        externalReference);
+  }
+}
@@ -3,12 +3,13 @@ package io.rafaalberto.transactionstreamprocessor.unit.application.usecases;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.rafaalberto.transactionstreamprocessor.application.cache.ProcessedTransactionCache;
 import io.rafaalberto.transactionstreamprocessor.application.repository.TransactionRepository;
 import io.rafaalberto.transactionstreamprocessor.application.usecases.ProcessTransactionUseCase;
 import io.rafaalberto.transactionstreamprocessor.domain.transaction.AccountID;
@@ -43,33 +44,34 @@ class ProcessTransactionUseCaseTest {
 
     var repository = mock(TransactionRepository.class);
 
-    var useCase = new ProcessTransactionUseCase(repository);
+    var useCase = new ProcessTransactionUseCase(repository, mock(ProcessedTransactionCache.class));
 
-    when(repository.findById(transaction.id())).thenReturn(Optional.of(transaction));
-    when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    when(repository.markAsProcessedIfCreated(transaction.id()))
+        .thenReturn(Optional.of(transaction.process()));
 
     var result = useCase.execute(transaction.id()).orElseThrow();
 
     assertThat(result.id()).isEqualTo(transaction.id());
     assertThat(result.status()).isEqualTo(TransactionStatus.PROCESSED);
 
-    verify(repository).findById(transaction.id());
-    verify(repository).save(argThat(tx -> tx.status() == TransactionStatus.PROCESSED));
+    verify(repository).markAsProcessedIfCreated(transaction.id());
+    verify(repository, never()).existsById(any());
+    verify(repository, never()).findById(any());
   }
 
   @Test
   void shouldThrowExceptionWhenTransactionNotFound() {
     var transactionId = TransactionID.random();
     var repository = mock(TransactionRepository.class);
-    var useCase = new ProcessTransactionUseCase(repository);
+    var useCase = new ProcessTransactionUseCase(repository, mock(ProcessedTransactionCache.class));
 
-    when(repository.findById(transactionId)).thenReturn(Optional.empty());
+    when(repository.markAsProcessedIfCreated(transactionId)).thenReturn(Optional.empty());
+    when(repository.existsById(transactionId)).thenReturn(false);
 
     assertThatThrownBy(() -> useCase.execute(transactionId))
         .isInstanceOf(TransactionNotFoundException.class);
 
-    verify(repository).findById(transactionId);
-    verify(repository, never()).save(any());
+    verify(repository).existsById(transactionId);
   }
 
   @Test
@@ -96,15 +98,31 @@ class ProcessTransactionUseCaseTest {
 
     var repository = mock(TransactionRepository.class);
 
-    var useCase = new ProcessTransactionUseCase(repository);
+    var useCase = new ProcessTransactionUseCase(repository, mock(ProcessedTransactionCache.class));
 
-    when(repository.findById(transactionId)).thenReturn(Optional.of(transaction));
+    when(repository.markAsProcessedIfCreated(transactionId)).thenReturn(Optional.empty());
+    when(repository.existsById(transactionId)).thenReturn(true);
 
     var result = useCase.execute(transactionId);
 
     assertThat(result).isNotPresent();
 
-    verify(repository).findById(transactionId);
-    verify(repository, never()).save(any());
+    verify(repository).markAsProcessedIfCreated(transactionId);
+  }
+
+  @Test
+  void shouldSkipRepositoryWhenTransactionWasRecentlyProcessed() {
+    var transactionId = TransactionID.random();
+    var repository = mock(TransactionRepository.class);
+    var cache = mock(ProcessedTransactionCache.class);
+
+    var useCase = new ProcessTransactionUseCase(repository, cache);
+
+    when(cache.contains(transactionId)).thenReturn(true);
+
+    var result = useCase.execute(transactionId);
+
+    assertThat(result).isNotPresent();
+    verifyNoInteractions(repository);
   }
 }
@@ -0,0 +1,61 @@
+package io.rafaalberto.transactionstreamprocessor.unit.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionID;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.cache.CaffeineProcessedTransactionCache;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class CaffeineProcessedTransactionCacheTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final CaffeineProcessedTransactionCache cache =
+      new CaffeineProcessedTransactionCache(meterRegistry, 100, 60000);
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void shouldRememberProcessedTransactionsAndReportHitsAndMisses() {
+    var processed = TransactionID.random();
+
+    assertThat(cache.contains(processed)).isFalse();
+    cache.addAll(List.of(processed));
+    assertThat(cache.contains(processed)).isTrue();
+
+    assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+        .isEqualTo(1);
+    assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void shouldOnlyRememberTransactionsOnceTheSurroundingTransactionCommits() {
+    var committed = TransactionID.random();
+    var rolledBack = TransactionID.random();
+
+    TransactionSynchronizationManager.initSynchronization();
+    cache.addAll(List.of(committed));
+    assertThat(cache.contains(committed)).isFalse();
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    TransactionSynchronizationManager.clearSynchronization();
+
+    TransactionSynchronizationManager.initSynchronization();
+    cache.addAll(List.of(rolledBack));
+    TransactionSynchronizationManager.clearSynchronization();
+
+    assertThat(cache.contains(committed)).isTrue();
+    assertThat(cache.contains(rolledBack)).isFalse();
+  }
+}
@@ -0,0 +1,49 @@
+package io.rafaalberto.transactionstreamprocessor.unit.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.rafaalberto.transactionstreamprocessor.infrastructure.cache.ScalableBloomFilter;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ScalableBloomFilterTest {
+
+  private static final double FALSE_POSITIVE_RATE = 0.01;
+
+  @Test
+  void shouldNeverReportAnAddedReferenceAsNew() {
+    var filter = new ScalableBloomFilter(1_000, FALSE_POSITIVE_RATE);
+
+    IntStream.range(0, 10_000).forEach(index -> filter.put("settlement::" + index));
+
+    assertThat(IntStream.range(0, 10_000))
+        .allMatch(index -> filter.mightContain("settlement::" + index));
+  }
+
+  @Test
+  void shouldGrowPastItsInitialCapacityWhileKeepingTheFalsePositiveRateBounded() {
+    var filter = new ScalableBloomFilter(1_000, FALSE_POSITIVE_RATE);
+    var initialBytes = filter.sizeInBytes();
+
+    IntStream.range(0, 20_000).forEach(index -> filter.put("settlement::" + index));
+
+    var falsePositives =
+        IntStream.range(0, 100_000)
+            .filter(index -> filter.mightContain("payout::" + index))
+            .count();
+    assertThat(filter.layerCount()).isGreaterThan(1);
+    assertThat(filter.sizeInBytes()).isGreaterThan(initialBytes);
+    assertThat(falsePositives / 100_000.0).isLessThan(FALSE_POSITIVE_RATE);
+    assertThat(filter.expectedFalsePositiveRate()).isLessThan(FALSE_POSITIVE_RATE);
+  }
+
+  @Test
+  void shouldNotCountTheSameReferenceTwice() {
+    var filter = new ScalableBloomFilter(1_000, FALSE_POSITIVE_RATE);
+
+    filter.put("settlement::1");
+    filter.put("settlement::1");
+
+    assertThat(filter.count()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,46 @@
+package io.rafaalberto.transactionstreamprocessor.unit.infrastructure.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.rafaalberto.transactionstreamprocessor.infrastructure.config.KafkaRetryTiers;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.config.KafkaTopics;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class KafkaRetryTiersTest {
+
+  private static final Instant NOW = Instant.parse("2025-03-23T11:00:00Z");
+
+  private final KafkaRetryTiers retryTiers = new KafkaRetryTiers(new long[] {1000, 10000, 60000});
+
+  @Test
+  void shouldChainMainTopicThroughEveryRetryTier() {
+    assertThat(retryTiers.nextTopic(KafkaTopics.TRANSACTIONS_CREATED))
+        .contains(KafkaTopics.TRANSACTIONS_CREATED_RETRY_1S);
+    assertThat(retryTiers.nextTopic(KafkaTopics.TRANSACTIONS_CREATED_RETRY_1S))
+        .contains(KafkaTopics.TRANSACTIONS_CREATED_RETRY_10S);
+    assertThat(retryTiers.nextTopic(KafkaTopics.TRANSACTIONS_CREATED_RETRY_10S))
+        .contains(KafkaTopics.TRANSACTIONS_CREATED_RETRY_60S);
+  }
+
+  @Test
+  void shouldStopRetryingAfterLastTier() {
+    assertThat(retryTiers.nextTopic(KafkaTopics.TRANSACTIONS_CREATED_RETRY_60S)).isEmpty();
+    assertThat(retryTiers.nextTopic(KafkaTopics.TRANSACTIONS_PROCESSED)).isEmpty();
+  }
+
+  @Test
+  void shouldScheduleRetryAfterTheTierDelay() {
+    assertThat(retryTiers.dueAt(KafkaTopics.TRANSACTIONS_CREATED_RETRY_1S, NOW))
+        .isEqualTo(NOW.plusSeconds(1));
+    assertThat(retryTiers.dueAt(KafkaTopics.TRANSACTIONS_CREATED_RETRY_60S, NOW))
+        .isEqualTo(NOW.plusSeconds(60));
+  }
+
+  @Test
+  void shouldRejectDelaysThatDoNotMatchTheTiers() {
+    assertThatThrownBy(() -> new KafkaRetryTiers(new long[] {1000}))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,152 @@
+package io.rafaalberto.transactionstreamprocessor.unit.infrastructure.http.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.rafaalberto.transactionstreamprocessor.application.usecases.CreateTransactionCommand;
+import io.rafaalberto.transactionstreamprocessor.application.usecases.CreateTransactionResult;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.AccountID;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Money;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Transaction;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.http.controller.CreateTransactionStreamController;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.http.response.CreateTransactionStreamItemResponse;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.service.CreateTransactionBatchService;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+class CreateTransactionStreamControllerTest {
+
+  private static final UUID ACCOUNT_ID = UUID.randomUUID();
+
+  private final ObjectMapper objectMapper = JsonMapper.builder().build();
+  private final CreateTransactionBatchService service = mock(CreateTransactionBatchService.class);
+  private final CreateTransactionStreamController controller =
+      new CreateTransactionStreamController(
+          service,
+          objectMapper,
+          Validation.buildDefaultValidatorFactory().getValidator(),
+          2,
+          200);
+
+  @Test
+  void shouldCommitEveryChunkAndStreamOneResultPerLine() throws Exception {
+    when(service.execute(any())).thenAnswer(invocation -> created(invocation.getArgument(0)));
+
+    var results = ingest(line("settlement-1"), line("settlement-2"), line("settlement-3"));
+
+    verify(service, times(2)).execute(any());
+    verify(service).execute(argThat(commands -> commands.size() == 2));
+    verify(service).execute(argThat(commands -> commands.size() == 1));
+    assertThat(results)
+        .extracting(CreateTransactionStreamItemResponse::line)
+        .containsExactly(1L, 2L, 3L);
+    assertThat(results)
+        .extracting(CreateTransactionStreamItemResponse::externalReference)
+        .containsExactly("settlement-1", "settlement-2", "settlement-3");
+    assertThat(results).allMatch(result -> result.outcome().equals("CREATED"));
+    assertThat(results).allMatch(result -> result.transaction() != null);
+  }
+
+  @Test
+  void shouldRejectInvalidLinesInPlaceWithoutFailingTheStream() throws Exception {
+    when(service.execute(any())).thenAnswer(invocation -> created(invocation.getArgument(0)));
+
+    var results =
+        ingest(
+            "{not json",
+            "",
+            line("settlement-1").replace("\"amount\":10", "\"amount\":0"),
+            "{\"padding\":\"" + "x".repeat(300) + "\"}",
+            line("settlement-2"));
+
+    assertThat(results)
+        .extracting(CreateTransactionStreamItemResponse::line)
+        .containsExactly(1L, 3L, 4L, 5L);
+    assertThat(results)
+        .extracting(CreateTransactionStreamItemResponse::outcome)
+        .containsExactly("REJECTED", "REJECTED", "REJECTED", "CREATED");
+    assertThat(results)
+        .extracting(CreateTransactionStreamItemResponse::error)
+        .containsExactly(
+            "Malformed JSON request",
+            "amount: amount must be greater than zero",
+            "line exceeds 200 characters",
+            null);
+    verify(service).execute(argThat(commands -> commands.size() == 1));
+  }
+
+  @Test
+  void shouldRejectTheLinesOfAChunkThatFailedToCommitAndKeepStreaming() throws Exception {
+    when(service.execute(any()))
+        .thenAnswer(invocation -> created(invocation.getArgument(0)))
+        .thenThrow(new IllegalStateException("connection reset"))
+        .thenAnswer(invocation -> created(invocation.getArgument(0)));
+
+    var results =
+        ingest(
+            line("settlement-1"),
+            line("settlement-2"),
+            line("settlement-3"),
+            line("settlement-4"),
+            line("settlement-5"));
+
+    assertThat(results)
+        .extracting(CreateTransactionStreamItemResponse::line)
+        .containsExactly(1L, 2L, 3L, 4L, 5L);
+    assertThat(results)
+        .extracting(CreateTransactionStreamItemResponse::outcome)
+        .containsExactly("CREATED", "CREATED", "REJECTED", "REJECTED", "CREATED");
+    assertThat(results.get(2).externalReference()).isEqualTo("settlement-3");
+    assertThat(results.get(2).error()).isEqualTo("chunk could not be committed, resend this line");
+    verify(service, times(3)).execute(any());
+  }
+
+  private List<CreateTransactionStreamItemResponse> ingest(final String... lines)
+      throws Exception {
+    var body = String.join("\n", lines).getBytes(StandardCharsets.UTF_8);
+    var output = new ByteArrayOutputStream();
+
+    controller.create(new ByteArrayInputStream(body), output);
+
+    return output
+        .toString(StandardCharsets.UTF_8)
+        .lines()
+        .map(line -> objectMapper.readValue(line, CreateTransactionStreamItemResponse.class))
+        .toList();
+  }
+
+  private static String line(final String externalReference) {
+    return "{\"amount\":10,\"currency\":\"BRL\",\"type\":\"CREDIT\",\"accountId\":\""
+        + ACCOUNT_ID
+        + "\",\"occurredAt\":\"2025-03-23T11:00:00Z\",\"externalReference\":\""
+        + externalReference
+        + "\"}";
+  }
+
+  private static List<CreateTransactionResult> created(
+      final List<CreateTransactionCommand> commands) {
+    return commands.stream()
+        .map(
+            command ->
+                CreateTransactionResult.created(
+                    Transaction.create(
+                        new Money(command.amount(), command.currency()),
+                        command.type(),
+                        new AccountID(command.accountId()),
+                        command.occurredAt(),
+                        command.externalReference())))
+        .toList();
+  }
+}
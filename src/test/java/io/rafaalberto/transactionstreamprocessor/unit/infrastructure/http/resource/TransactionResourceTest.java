@@ -1,11 +1,13 @@
 package io.rafaalberto.transactionstreamprocessor.unit.infrastructure.http.resource;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -14,15 +16,25 @@ import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionI
 import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionStatus;
 import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionType;
 import io.rafaalberto.transactionstreamprocessor.domain.transaction.exception.TransactionNotFoundException;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.http.controller.CreateTransactionBatchController;
 import io.rafaalberto.transactionstreamprocessor.infrastructure.http.controller.CreateTransactionController;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.http.controller.CreateTransactionStreamController;
 import io.rafaalberto.transactionstreamprocessor.infrastructure.http.controller.GetTransactionByIdController;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.http.request.CreateTransactionBatchRequest;
 import io.rafaalberto.transactionstreamprocessor.infrastructure.http.request.CreateTransactionRequest;
 import io.rafaalberto.transactionstreamprocessor.infrastructure.http.resource.TransactionResource;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.http.response.CreateTransactionBatchItemResponse;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.http.response.CreateTransactionBatchResponse;
 import io.rafaalberto.transactionstreamprocessor.infrastructure.http.response.MoneyResponse;
 import io.rafaalberto.transactionstreamprocessor.infrastructure.http.response.TransactionDetailsResponse;
 import io.rafaalberto.transactionstreamprocessor.infrastructure.http.response.TransactionResponse;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -43,6 +55,8 @@ class TransactionResourceTest {
 
   @MockitoBean private CreateTransactionController createTransactionController;
   @MockitoBean private GetTransactionByIdController getTransactionByIdController;
+  @MockitoBean private CreateTransactionBatchController createTransactionBatchController;
+  @MockitoBean private CreateTransactionStreamController createTransactionStreamController;
 
   @Autowired private ObjectMapper objectMapper;
 
@@ -209,6 +223,90 @@ class TransactionResourceTest {
     verifyNoMoreInteractions(createTransactionController);
   }
 
+  @Test
+  void shouldCreateTransactionBatchWithPerItemResults() throws Exception {
+    var created = validRequest("settlement-1");
+    var rejected = validRequest("settlement-2");
+    var response =
+        new CreateTransactionBatchResponse(
+            1,
+            0,
+            1,
+            List.of(
+                new CreateTransactionBatchItemResponse(
+                    0,
+                    "settlement-1",
+                    "CREATED",
+                    new TransactionResponse(
+                        UUID.randomUUID(),
+                        new MoneyResponse(BigDecimal.ONE, "BRL"),
+                        ACCOUNT_ID,
+                        OCCURRED_AT,
+                        CREATED_AT),
+                    null),
+                new CreateTransactionBatchItemResponse(
+                    1, "settlement-2", "REJECTED", null, "Invalid transaction")));
+
+    when(createTransactionBatchController.create(any())).thenReturn(response);
+    mockMvc
+        .perform(
+            post("/transactions/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                    objectMapper.writeValueAsString(
+                        new CreateTransactionBatchRequest(List.of(created, rejected)))))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.created").value(1))
+        .andExpect(jsonPath("$.rejected").value(1))
+        .andExpect(jsonPath("$.results[0].outcome").value("CREATED"))
+        .andExpect(jsonPath("$.results[1].outcome").value("REJECTED"))
+        .andExpect(jsonPath("$.results[1].error").value("Invalid transaction"));
+  }
+
+  @Test
+  void shouldReturnBadRequestWhenTransactionBatchIsTooLarge() throws Exception {
+    var request =
+        new CreateTransactionBatchRequest(
+            Collections.nCopies(
+                CreateTransactionBatchRequest.MAX_TRANSACTIONS + 1, validRequest("settlement")));
+
+    mockMvc
+        .perform(
+            post("/transactions/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Validation error"))
+        .andExpect(
+            jsonPath("$.details[0]")
+                .value("transactions: transactions must have at most 1000 items"));
+
+    verifyNoMoreInteractions(createTransactionBatchController);
+  }
+
+  @Test
+  void shouldStreamNdjsonResultsBackForNdjsonUpload() throws Exception {
+    var upload = objectMapper.writeValueAsString(validRequest("settlement-1")) + "\n";
+    doAnswer(
+            invocation -> {
+              var body = invocation.getArgument(0, InputStream.class);
+              var output = invocation.getArgument(1, OutputStream.class);
+              output.write(body.readAllBytes());
+              return null;
+            })
+        .when(createTransactionStreamController)
+        .create(any(), any());
+
+    mockMvc
+        .perform(
+            post("/transactions/stream")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(upload.getBytes(StandardCharsets.UTF_8)))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+        .andExpect(content().string(upload));
+  }
+
   @Test
   void shouldGetTransactionByIdSuccessfully() throws Exception {
     var transactionId = TransactionID.random();
@@ -275,4 +373,14 @@ class TransactionResourceTest {
 
     verifyNoMoreInteractions(getTransactionByIdController);
   }
+
+  private static CreateTransactionRequest validRequest(final String externalReference) {
+    return new CreateTransactionRequest(
+        BigDecimal.ONE,
+        Currency.BRL,
+        TransactionType.CREDIT,
+        ACCOUNT_ID,
+        OCCURRED_AT,
+        externalReference);
+  }
 }
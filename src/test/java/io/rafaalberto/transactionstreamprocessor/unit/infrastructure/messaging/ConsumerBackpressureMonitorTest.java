@@ -0,0 +1,119 @@
+package io.rafaalberto.transactionstreamprocessor.unit.infrastructure.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.consumer.ConsumerBackpressureMonitor;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.consumer.TransactionCreatedEventConsumer;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.consumer.TransactionCreatedEventRetryConsumer;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+class ConsumerBackpressureMonitorTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+  private final MessageListenerContainer container = mock(MessageListenerContainer.class);
+  private final MessageListenerContainer retryContainer = mock(MessageListenerContainer.class);
+
+  private ConsumerBackpressureMonitor monitor;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    var dataSource = mock(DataSource.class);
+    var hikari = mock(HikariDataSource.class);
+    when(dataSource.isWrapperFor(HikariDataSource.class)).thenReturn(true);
+    when(dataSource.unwrap(HikariDataSource.class)).thenReturn(hikari);
+    when(hikari.getHikariPoolMXBean()).thenReturn(pool);
+    var listenerRegistry = mock(KafkaListenerEndpointRegistry.class);
+    when(listenerRegistry.getListenerContainer(TransactionCreatedEventConsumer.LISTENER_ID))
+        .thenReturn(container);
+    when(listenerRegistry.getListenerContainer(TransactionCreatedEventRetryConsumer.LISTENER_ID))
+        .thenReturn(retryContainer);
+    monitor =
+        new ConsumerBackpressureMonitor(
+            dataSource, meterRegistry, listenerRegistry, 5, 100, 20, 2);
+  }
+
+  @Test
+  void shouldPauseOnceWhenConnectionsQueueUpAndResumeWhenTheyDrain() {
+    when(pool.getThreadsAwaitingConnection()).thenReturn(8);
+
+    monitor.sample();
+    monitor.sample();
+
+    assertThat(monitor.isPaused()).isTrue();
+    verify(container, times(1)).pause();
+    assertThat(gauge("kafka.consumer.backpressure.paused")).isEqualTo(1);
+
+    when(pool.getThreadsAwaitingConnection()).thenReturn(0);
+    monitor.sample();
+    assertThat(monitor.isPaused()).isTrue();
+    monitor.sample();
+
+    assertThat(monitor.isPaused()).isFalse();
+    verify(container).resume();
+    verifyNoInteractions(retryContainer);
+    assertThat(counter("kafka.consumer.backpressure.pauses")).isEqualTo(1);
+    assertThat(counter("kafka.consumer.backpressure.resumes")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldPauseWhenRecentConnectionAcquiresAreSlow() {
+    var acquire = Timer.builder("hikaricp.connections.acquire").register(meterRegistry);
+    acquire.record(Duration.ofMillis(10));
+    monitor.sample();
+    assertThat(monitor.isPaused()).isFalse();
+
+    acquire.record(Duration.ofMillis(400));
+    acquire.record(Duration.ofMillis(600));
+    monitor.sample();
+    assertThat(monitor.isPaused()).isTrue();
+
+    acquire.record(Duration.ofMillis(50));
+    monitor.sample();
+    assertThat(monitor.isPaused()).isTrue();
+
+    acquire.record(Duration.ofMillis(5));
+    monitor.sample();
+    acquire.record(Duration.ofMillis(5));
+    monitor.sample();
+    assertThat(monitor.isPaused()).isFalse();
+  }
+
+  @Test
+  void shouldStayPausedUntilPressureStaysLowForConsecutiveSamples() {
+    when(pool.getThreadsAwaitingConnection()).thenReturn(8);
+    monitor.sample();
+
+    when(pool.getThreadsAwaitingConnection()).thenReturn(0, 3, 0, 0);
+    monitor.sample();
+    monitor.sample();
+    monitor.sample();
+    assertThat(monitor.isPaused()).isTrue();
+
+    monitor.sample();
+    assertThat(monitor.isPaused()).isFalse();
+    verify(container, times(1)).resume();
+  }
+
+  private double gauge(final String name) {
+    return meterRegistry.get(name).gauge().value();
+  }
+
+  private double counter(final String name) {
+    return meterRegistry.get(name).counter().count();
+  }
+}
@@ -0,0 +1,132 @@
+package io.rafaalberto.transactionstreamprocessor.unit.infrastructure.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionCreatedEvent;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Currency;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionType;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.serde.TransactionCreatedEventJsonParser;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.serde.TransactionEventDeserializer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JacksonJsonSerializer;
+
+class TransactionCreatedEventJsonParserTest {
+
+  private static final UUID TRANSACTION_ID =
+      UUID.fromString("3f2b8c1e-9a4d-4e7b-b5c6-0d1e2f3a4b5c");
+
+  private static final UUID ACCOUNT_ID = UUID.fromString("a1b2c3d4-e5f6-4789-abcd-ef0123456789");
+
+  private static final Instant OCCURRED_AT = Instant.parse("2025-03-23T11:00:00.123456Z");
+
+  private static final Instant CREATED_AT = Instant.parse("2025-03-23T11:00:01.654321Z");
+
+  private static final Map<String, Object> SERDE_CONFIG =
+      Map.of(
+          "spring.json.add.type.headers",
+          false,
+          "spring.json.trusted.packages",
+          "io.rafaalberto.transactionstreamprocessor.application.events",
+          "spring.json.value.default.type",
+          TransactionCreatedEvent.class.getName());
+
+  @Test
+  void shouldParseIsoTimestamps() {
+    var json =
+        """
+        {"transactionId":"3f2b8c1e-9a4d-4e7b-b5c6-0d1e2f3a4b5c","amount":1234.56,\
+        "currency":"BRL","accountId":"a1b2c3d4-e5f6-4789-abcd-ef0123456789","type":"CREDIT",\
+        "occurredAt":"2025-03-23T11:00:00.123456Z","createdAt":"2025-03-23T11:00:01.654321Z",\
+        "externalReference":"account-service::account-123"}
+        """;
+
+    var event = TransactionCreatedEventJsonParser.parse(utf8(json));
+
+    assertThat(event).isEqualTo(expectedEvent("account-service::account-123"));
+  }
+
+  @Test
+  void shouldParseDecimalEpochTimestampsAndNullFields() {
+    var json =
+        """
+        {"transactionId":"3F2B8C1E-9A4D-4E7B-B5C6-0D1E2F3A4B5C","amount":"1234.56",\
+        "currency":"BRL","accountId":"a1b2c3d4-e5f6-4789-abcd-ef0123456789","type":"CREDIT",\
+        "occurredAt":1742727600.123456000,"createdAt":1742727601.654321000,\
+        "externalReference":null}
+        """;
+
+    var event = TransactionCreatedEventJsonParser.parse(utf8(json));
+
+    assertThat(event).isEqualTo(expectedEvent(null));
+  }
+
+  @Test
+  void shouldParseWhatTheProducerSerializerWrites() {
+    var event = expectedEvent("account-service::account-123");
+
+    try (var serializer = new JacksonJsonSerializer<TransactionCreatedEvent>()) {
+      serializer.configure(SERDE_CONFIG, false);
+
+      var parsed =
+          TransactionCreatedEventJsonParser.parse(
+              serializer.serialize("transactions.created", event));
+
+      assertThat(parsed).isEqualTo(event);
+    }
+  }
+
+  @Test
+  void shouldDeclineUnknownFieldsAndMalformedValues() {
+    var unknownField =
+        """
+        {"transactionId":"3f2b8c1e-9a4d-4e7b-b5c6-0d1e2f3a4b5c","schemaVersion":2}
+        """;
+    var malformedUuid =
+        """
+        {"transactionId":"3f2b8c1e-9a4d-4e7b-b5c6-0d1e2f3a4bZZ"}
+        """;
+
+    assertThat(TransactionCreatedEventJsonParser.parse(utf8(unknownField))).isNull();
+    assertThat(TransactionCreatedEventJsonParser.parse(utf8(malformedUuid))).isNull();
+    assertThat(TransactionCreatedEventJsonParser.parse(utf8("[]"))).isNull();
+  }
+
+  @Test
+  void shouldFallBackToGenericDeserializerOnUnknownFields() {
+    var json =
+        """
+        {"transactionId":"3f2b8c1e-9a4d-4e7b-b5c6-0d1e2f3a4b5c","amount":1234.56,\
+        "currency":"BRL","accountId":"a1b2c3d4-e5f6-4789-abcd-ef0123456789","type":"CREDIT",\
+        "occurredAt":"2025-03-23T11:00:00.123456Z","createdAt":"2025-03-23T11:00:01.654321Z",\
+        "externalReference":"account-service::account-123","schemaVersion":2}
+        """;
+
+    try (var deserializer = new TransactionEventDeserializer()) {
+      deserializer.configure(SERDE_CONFIG, false);
+
+      assertThat(deserializer.deserialize("transactions.created", utf8(json)))
+          .isEqualTo(expectedEvent("account-service::account-123"));
+    }
+  }
+
+  private static TransactionCreatedEvent expectedEvent(final String externalReference) {
+    return new TransactionCreatedEvent(
+        TRANSACTION_ID,
+        new BigDecimal("1234.56"),
+        Currency.BRL,
+        ACCOUNT_ID,
+        TransactionType.CREDIT,
+        OCCURRED_AT,
+        CREATED_AT,
+        externalReference);
+  }
+
+  private static byte[] utf8(final String json) {
+    return json.strip().getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,221 @@
+package io.rafaalberto.transactionstreamprocessor.unit.infrastructure.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionCreatedEvent;
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionProcessedEvent;
+import io.rafaalberto.transactionstreamprocessor.application.publisher.TransactionProcessedEventPublisher;
+import io.rafaalberto.transactionstreamprocessor.application.usecases.ProcessTransactionUseCase;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.AccountID;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Currency;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Money;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Transaction;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionID;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionStatus;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionType;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.consumer.TransactionCreatedEventParallelConsumer;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class TransactionCreatedEventParallelConsumerTest {
+
+  private static final Instant OCCURRED_AT = Instant.parse("2025-03-23T11:00:00Z");
+
+  private final ProcessTransactionUseCase processTransactionUseCase =
+      mock(ProcessTransactionUseCase.class);
+
+  private final TransactionProcessedEventPublisher publisher =
+      mock(TransactionProcessedEventPublisher.class);
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  private final TransactionCreatedEventParallelConsumer consumer =
+      new TransactionCreatedEventParallelConsumer(
+          processTransactionUseCase, publisher, executor, mock(PlatformTransactionManager.class));
+
+  private final Map<UUID, UUID> accountByTransaction = new ConcurrentHashMap<>();
+
+  private final Map<UUID, List<UUID>> processedByAccount = new ConcurrentHashMap<>();
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void shouldProcessEveryEventKeepingOrderWithinAnAccount() {
+    var firstAccount = UUID.randomUUID();
+    var secondAccount = UUID.randomUUID();
+    var events =
+        List.of(
+            event(firstAccount),
+            event(secondAccount),
+            event(firstAccount),
+            event(secondAccount),
+            event(firstAccount));
+    recordProcessing();
+
+    consumer.consume(events);
+
+    assertThat(processedByAccount.get(firstAccount))
+        .containsExactly(
+            events.get(0).transactionId(),
+            events.get(2).transactionId(),
+            events.get(4).transactionId());
+    assertThat(processedByAccount.get(secondAccount))
+        .containsExactly(events.get(1).transactionId(), events.get(3).transactionId());
+    verify(publisher, times(2)).publishAll(any());
+  }
+
+  @Test
+  void shouldStopAccountAtFailureAndRedeliverItFromItsFirstRecord() {
+    var failingAccount = UUID.randomUUID();
+    var healthyAccount = UUID.randomUUID();
+    var events =
+        List.of(
+            event(healthyAccount),
+            event(failingAccount),
+            event(healthyAccount),
+            event(failingAccount));
+    recordProcessing();
+    doThrow(new RuntimeException("database unavailable"))
+        .when(processTransactionUseCase)
+        .execute(new TransactionID(events.get(1).transactionId()));
+
+    assertThatThrownBy(() -> consumer.consume(events))
+        .isInstanceOfSatisfying(
+            BatchListenerFailedException.class,
+            ex -> assertThat(ex.getIndex()).isEqualTo(1));
+
+    verify(processTransactionUseCase, never())
+        .execute(new TransactionID(events.get(3).transactionId()));
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<TransactionProcessedEvent>> captor = ArgumentCaptor.forClass(List.class);
+    verify(publisher).publishAll(captor.capture());
+    assertThat(captor.getValue())
+        .extracting(TransactionProcessedEvent::transactionId)
+        .containsExactly(events.get(0).transactionId(), events.get(2).transactionId());
+  }
+
+  @Test
+  void shouldCommitTheRecordsBeforeAFailureAndReportTheFailedRecord() {
+    var failingAccount = UUID.randomUUID();
+    var healthyAccount = UUID.randomUUID();
+    var events =
+        List.of(
+            event(healthyAccount),
+            event(failingAccount),
+            event(failingAccount),
+            event(failingAccount));
+    recordProcessing();
+    doThrow(new RuntimeException("database unavailable"))
+        .when(processTransactionUseCase)
+        .execute(new TransactionID(events.get(2).transactionId()));
+
+    assertThatThrownBy(() -> consumer.consume(events))
+        .isInstanceOfSatisfying(
+            BatchListenerFailedException.class,
+            ex -> assertThat(ex.getIndex()).isEqualTo(2));
+
+    verify(processTransactionUseCase, never())
+        .execute(new TransactionID(events.get(3).transactionId()));
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<TransactionProcessedEvent>> captor = ArgumentCaptor.forClass(List.class);
+    verify(publisher, times(2)).publishAll(captor.capture());
+    assertThat(captor.getAllValues())
+        .extracting(published -> published.getFirst().transactionId())
+        .containsExactlyInAnyOrder(events.get(0).transactionId(), events.get(1).transactionId());
+  }
+
+  @Test
+  void shouldFailTheLaneWhosePublishFailedSoItIsRedelivered() {
+    var failingAccount = UUID.randomUUID();
+    var healthyAccount = UUID.randomUUID();
+    var events =
+        List.of(
+            event(healthyAccount),
+            event(failingAccount),
+            event(healthyAccount),
+            event(failingAccount));
+    recordProcessing();
+    doThrow(new RuntimeException("broker unavailable"))
+        .when(publisher)
+        .publishAll(
+            argThat(
+                published ->
+                    published.getFirst().transactionId().equals(events.get(1).transactionId())));
+
+    assertThatThrownBy(() -> consumer.consume(events))
+        .isInstanceOfSatisfying(
+            BatchListenerFailedException.class,
+            ex -> assertThat(ex.getIndex()).isEqualTo(1));
+
+    verify(processTransactionUseCase).execute(new TransactionID(events.get(3).transactionId()));
+    verify(publisher, times(2)).publishAll(any());
+  }
+
+  private void recordProcessing() {
+    doAnswer(
+            invocation -> {
+              TransactionID id = invocation.getArgument(0);
+              var transaction = processedTransaction(id);
+              processedByAccount
+                  .computeIfAbsent(
+                      transaction.accountId().value(), key -> new CopyOnWriteArrayList<>())
+                  .add(id.value());
+              return Optional.of(transaction);
+            })
+        .when(processTransactionUseCase)
+        .execute(any());
+  }
+
+  private TransactionCreatedEvent event(final UUID accountId) {
+    var transactionId = UUID.randomUUID();
+    accountByTransaction.put(transactionId, accountId);
+    return new TransactionCreatedEvent(
+        transactionId,
+        BigDecimal.valueOf(100),
+        Currency.BRL,
+        accountId,
+        TransactionType.CREDIT,
+        OCCURRED_AT,
+        OCCURRED_AT,
+        "parallel-" + transactionId);
+  }
+
+  private Transaction processedTransaction(final TransactionID id) {
+    return Transaction.restore(
+        id,
+        new Money(BigDecimal.valueOf(100), Currency.BRL),
+        TransactionType.CREDIT,
+        new AccountID(accountByTransaction.get(id.value())),
+        OCCURRED_AT,
+        OCCURRED_AT,
+        TransactionStatus.PROCESSED,
+        "parallel-" + id.value());
+  }
+}
@@ -0,0 +1,122 @@
+package io.rafaalberto.transactionstreamprocessor.unit.infrastructure.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionCreatedEvent;
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionProcessedEvent;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Currency;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionType;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.serde.TransactionEventBinaryCodec;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.serde.TransactionEventDeserializer;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.serde.TransactionEventSerializer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class TransactionEventBinaryCodecTest {
+
+  private static final Instant OCCURRED_AT = Instant.parse("2025-03-23T11:00:00.123456Z");
+
+  private static final Instant CREATED_AT = Instant.parse("2025-03-23T11:00:01.654321Z");
+
+  private static final Map<String, Object> SERDE_CONFIG =
+      Map.of(
+          "spring.json.add.type.headers",
+          false,
+          "spring.json.trusted.packages",
+          "io.rafaalberto.transactionstreamprocessor.application.events",
+          "spring.json.value.default.type",
+          TransactionCreatedEvent.class.getName(),
+          TransactionEventSerializer.BINARY_TOPICS_CONFIG,
+          "transactions.created");
+
+  @Test
+  void shouldRoundTripTransactionCreatedEvent() {
+    var event = createdEvent(new BigDecimal("1234.56"));
+
+    var encoded = TransactionEventBinaryCodec.encode(event);
+
+    assertThat(TransactionEventBinaryCodec.isBinary(encoded)).isTrue();
+    assertThat(TransactionEventBinaryCodec.decode(encoded)).isEqualTo(event);
+  }
+
+  @Test
+  void shouldRoundTripTransactionProcessedEvent() {
+    var event =
+        new TransactionProcessedEvent(
+            UUID.randomUUID(), UUID.randomUUID(), "PROCESSED", OCCURRED_AT, "ext-ref-1");
+
+    var decoded = TransactionEventBinaryCodec.decode(TransactionEventBinaryCodec.encode(event));
+
+    assertThat(decoded).isEqualTo(event);
+  }
+
+  @Test
+  void shouldNotSupportAmountsBeyondALong() {
+    var event = createdEvent(new BigDecimal("99999999999999999999.99"));
+
+    assertThat(TransactionEventBinaryCodec.supports(event)).isFalse();
+  }
+
+  @Test
+  void shouldRejectTruncatedPayload() {
+    var encoded = TransactionEventBinaryCodec.encode(createdEvent(BigDecimal.TEN));
+
+    assertThatThrownBy(
+            () -> TransactionEventBinaryCodec.decode(Arrays.copyOf(encoded, encoded.length - 5)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldWriteBinaryOnlyForConfiguredTopicsAndReadBothFormats() {
+    var event = createdEvent(new BigDecimal("10.00"));
+
+    try (var serializer = new TransactionEventSerializer();
+        var deserializer = new TransactionEventDeserializer()) {
+      serializer.configure(SERDE_CONFIG, false);
+      deserializer.configure(SERDE_CONFIG, false);
+
+      var binary = serializer.serialize("transactions.created", event);
+      var json = serializer.serialize("transactions.created.retry-1s", event);
+
+      assertThat(TransactionEventBinaryCodec.isBinary(binary)).isTrue();
+      assertThat(new String(json, StandardCharsets.UTF_8)).startsWith("{");
+      assertThat(binary.length).isLessThan(json.length);
+      assertThat(deserializer.deserialize("transactions.created", binary)).isEqualTo(event);
+      assertThat(deserializer.deserialize("transactions.created", json)).isEqualTo(event);
+    }
+  }
+
+  // the payload sizes the serde benchmark compares: fixed-width fields plus the three strings
+  @Test
+  void shouldEncodeACreatedEventInLessThanHalfItsJsonSize() {
+    var event = createdEvent(new BigDecimal("1234.56"));
+
+    try (var serializer = new TransactionEventSerializer()) {
+      serializer.configure(SERDE_CONFIG, false);
+
+      var binary = serializer.serialize("transactions.created", event);
+      var json = serializer.serialize("transactions.created.retry-1s", event);
+
+      assertThat(binary).hasSize(104);
+      assertThat(binary.length * 2).isLessThan(json.length);
+    }
+  }
+
+  private static TransactionCreatedEvent createdEvent(final BigDecimal amount) {
+    return new TransactionCreatedEvent(
+        UUID.randomUUID(),
+        amount,
+        Currency.BRL,
+        UUID.randomUUID(),
+        TransactionType.CREDIT,
+        OCCURRED_AT,
+        CREATED_AT,
+        "account-service::account-123");
+  }
+}
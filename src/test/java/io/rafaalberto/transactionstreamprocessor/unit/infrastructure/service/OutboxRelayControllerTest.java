@@ -0,0 +1,56 @@
+package io.rafaalberto.transactionstreamprocessor.unit.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.scheduler.OutboxRelayController;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class OutboxRelayControllerTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final OutboxRelayController controller =
+      new OutboxRelayController(100, 10, 400, 0, 1000, meterRegistry);
+
+  @Test
+  void shouldGrowBatchAndPollBackToBackWhileBatchesAreFull() {
+    controller.onCycle(200, 100, 2);
+    controller.onCycle(400, 200, 2);
+    controller.onCycle(800, 400, 2);
+
+    assertThat(controller.batchSize()).isEqualTo(400);
+    assertThat(controller.delay()).isEqualTo(Duration.ZERO);
+  }
+
+  @Test
+  void shouldShrinkBatchAndBackOffWhileIdle() {
+    for (int cycle = 0; cycle < 10; cycle++) {
+      controller.onCycle(0, controller.batchSize(), 2);
+    }
+
+    assertThat(controller.batchSize()).isEqualTo(10);
+    assertThat(controller.delay()).isEqualTo(Duration.ofMillis(1000));
+  }
+
+  @Test
+  void shouldPollAgainImmediatelyAfterPartialBatch() {
+    controller.onCycle(0, 100, 2);
+    controller.onCycle(0, 50, 2);
+
+    controller.onCycle(30, 25, 2);
+
+    assertThat(controller.batchSize()).isEqualTo(25);
+    assertThat(controller.delay()).isEqualTo(Duration.ZERO);
+  }
+
+  @Test
+  void shouldExposeDecisionsAsGauges() {
+    controller.onCycle(0, 100, 2);
+
+    assertThat(meterRegistry.get("outbox.relay.adaptive.batch.size").gauge().value())
+        .isEqualTo(50);
+    assertThat(meterRegistry.get("outbox.relay.adaptive.delay").gauge().value()).isEqualTo(100);
+  }
+}
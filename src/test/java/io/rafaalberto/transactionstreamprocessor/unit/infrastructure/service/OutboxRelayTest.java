@@ -0,0 +1,329 @@
+package io.rafaalberto.transactionstreamprocessor.unit.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.rafaalberto.transactionstreamprocessor.application.events.TransactionCreatedEvent;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Currency;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionType;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.publisher.KafkaOutboxEventPublisher;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox.OutboxEventEntity;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox.OutboxEventJpaRepository;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox.OutboxEventStatus;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.scheduler.OutboxRelay;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.scheduler.OutboxRelayMetrics;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.scheduler.OutboxRetryPolicy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import tools.jackson.databind.ObjectMapper;
+
+class OutboxRelayTest {
+
+  private static final UUID ACCOUNT_ID = UUID.randomUUID();
+
+  private static final String CREATED_AT = "2025-03-23T11:00:00Z";
+
+  private static final String OCCURRED_AT = "2025-03-23T11:00:01Z";
+
+  private final OutboxEventJpaRepository repository = mock(OutboxEventJpaRepository.class);
+
+  private final KafkaOutboxEventPublisher publisher = mock(KafkaOutboxEventPublisher.class);
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final OutboxRelayMetrics metrics = new OutboxRelayMetrics(meterRegistry);
+
+  private final OutboxRelay relay =
+      new OutboxRelay(
+          repository,
+          publisher,
+          new OutboxRetryPolicy(3, 1000, 60000),
+          metrics,
+          1000,
+          false,
+          0);
+
+  @BeforeEach
+  void setup() {
+    when(repository.tryLockLane(0)).thenReturn(true);
+  }
+
+  @Test
+  void shouldPublishPendingEventAndMarkAsSent() {
+    var outboxEventEntity = pendingEvent("ext-ref-123");
+
+    when(repository.claimPendingEvents(eq(0), eq(1), eq(100), any()))
+        .thenReturn(List.of(outboxEventEntity));
+    when(publisher.publish(any(), any(), any()))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    relay.relayBatch(0, 1, 100);
+
+    verify(publisher)
+        .publish(
+            eq("transactions.created"),
+            eq("ext-ref-123"),
+            aryEq(outboxEventEntity.getPayload().getBytes(StandardCharsets.UTF_8)));
+    verify(repository).updateStatus(List.of(outboxEventEntity.getId()), OutboxEventStatus.SENT);
+  }
+
+  @Test
+  void shouldNotPublishWhenNoPendingEvents() {
+    when(repository.claimPendingEvents(eq(0), eq(1), eq(100), any()))
+        .thenReturn(Collections.emptyList());
+
+    relay.relayBatch(0, 1, 100);
+
+    verify(publisher, never()).publish(any(), any(), any());
+    verify(repository, never()).updateStatus(any(), any());
+  }
+
+  @Test
+  void shouldKeepEventAsPendingWhenPublishFails() {
+    var outboxEventEntity = pendingEvent("ext-ref-456");
+
+    when(repository.claimPendingEvents(eq(0), eq(1), eq(100), any()))
+        .thenReturn(List.of(outboxEventEntity));
+    when(publisher.publish(any(), any(), any()))
+        .thenThrow(new RuntimeException("Kafka unavailable"));
+
+    relay.relayBatch(0, 1, 100);
+
+    verify(publisher).publish(any(), any(), any());
+    verify(repository, never()).updateStatus(any(), any());
+    verify(repository)
+        .recordFailure(
+            eq(outboxEventEntity.getId()),
+            eq(1),
+            any(Instant.class),
+            contains("Kafka unavailable"),
+            eq(OutboxEventStatus.PENDING));
+  }
+
+  @Test
+  void shouldKeepEventAsPendingWhenBrokerDoesNotAcknowledge() {
+    var outboxEventEntity = pendingEvent("ext-ref-789");
+
+    when(repository.claimPendingEvents(eq(0), eq(1), eq(100), any()))
+        .thenReturn(List.of(outboxEventEntity));
+    when(publisher.publish(any(), any(), any()))
+        .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Broker timeout")));
+
+    relay.relayBatch(0, 1, 100);
+
+    verify(repository, never()).updateStatus(any(), any());
+    verify(repository)
+        .recordFailure(
+            eq(outboxEventEntity.getId()),
+            eq(1),
+            any(Instant.class),
+            contains("Broker timeout"),
+            eq(OutboxEventStatus.PENDING));
+  }
+
+  @Test
+  void shouldMarkEventAsFailedWhenRetriesAreExhausted() {
+    var outboxEventEntity = pendingEvent("ext-ref-poison");
+    var singleAttemptRelay =
+        new OutboxRelay(
+            repository,
+            publisher,
+            new OutboxRetryPolicy(1, 1000, 60000),
+            metrics,
+            1000,
+            false,
+            0);
+
+    when(repository.claimPendingEvents(eq(0), eq(1), eq(100), any()))
+        .thenReturn(List.of(outboxEventEntity));
+    when(publisher.publish(any(), any(), any()))
+        .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Record too large")));
+
+    singleAttemptRelay.relayBatch(0, 1, 100);
+
+    verify(repository)
+        .recordFailure(
+            eq(outboxEventEntity.getId()),
+            eq(1),
+            any(Instant.class),
+            contains("Record too large"),
+            eq(OutboxEventStatus.FAILED));
+  }
+
+  @Test
+  void shouldMarkOnlyAcknowledgedEventsAsSent() {
+    var outboxEntity1 = pendingEvent("ext-ref-fail");
+    var outboxEntity2 = pendingEvent("ext-ref-success");
+
+    when(repository.claimPendingEvents(eq(0), eq(1), eq(100), any()))
+        .thenReturn(List.of(outboxEntity1, outboxEntity2));
+    doReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka unavailable")))
+        .when(publisher)
+        .publish(any(), eq("ext-ref-fail"), any());
+    doReturn(CompletableFuture.completedFuture(null))
+        .when(publisher)
+        .publish(any(), eq("ext-ref-success"), any());
+
+    relay.relayBatch(0, 1, 100);
+
+    verify(repository).updateStatus(List.of(outboxEntity2.getId()), OutboxEventStatus.SENT);
+    assertThat(meterRegistry.get("outbox.relay.events.relayed").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("outbox.relay.publish.failures").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("outbox.relay.batch.size").summary().totalAmount()).isEqualTo(2);
+    assertThat(meterRegistry.get("outbox.relay.batch.duration").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldSkipLaneWhenAnotherRelayHoldsIt() {
+    when(repository.tryLockLane(0)).thenReturn(false);
+
+    var claimed = relay.relayBatch(0, 1, 100);
+
+    assertThat(claimed).isEmpty();
+    verify(repository, never()).claimPendingEvents(anyInt(), anyInt(), anyInt(), any());
+    verify(publisher, never()).publish(any(), any(), any());
+  }
+
+  @Test
+  void shouldHoldBackLaterEventsOfAKeyAfterItsSendFailed() {
+    var firstOfAccount = pendingEvent("account-1", "ext-ref-1");
+    var secondOfAccount = pendingEvent("account-1", "ext-ref-2");
+    var otherAccount = pendingEvent("account-2", "ext-ref-3");
+
+    when(repository.claimPendingEvents(eq(0), eq(1), eq(100), any()))
+        .thenReturn(List.of(firstOfAccount, secondOfAccount, otherAccount));
+    doReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka unavailable")))
+        .when(publisher)
+        .publish(any(), eq("account-1"), any());
+    doReturn(CompletableFuture.completedFuture(null))
+        .when(publisher)
+        .publish(any(), eq("account-2"), any());
+
+    relay.relayBatch(0, 1, 100);
+
+    verify(publisher, times(1)).publish(any(), eq("account-1"), any());
+    verify(repository).updateStatus(List.of(otherAccount.getId()), OutboxEventStatus.SENT);
+    verify(repository, never())
+        .recordFailure(eq(secondOfAccount.getId()), anyInt(), any(), any(), any());
+  }
+
+  @Test
+  void shouldMarkAnAcknowledgedEventAsSentEvenIfAnEarlierOneOfItsKeyFailedLater() {
+    var firstOfAccount = pendingEvent("account-1", "ext-ref-1");
+    var secondOfAccount = pendingEvent("account-1", "ext-ref-2");
+    var firstSend = new CompletableFuture<Void>();
+
+    when(repository.claimPendingEvents(eq(0), eq(1), eq(100), any()))
+        .thenReturn(List.of(firstOfAccount, secondOfAccount));
+    when(publisher.publish(any(), eq("account-1"), any()))
+        .thenReturn(firstSend)
+        .thenAnswer(
+            invocation -> {
+              firstSend.completeExceptionally(new RuntimeException("Kafka unavailable"));
+              return CompletableFuture.completedFuture(null);
+            });
+
+    relay.relayBatch(0, 1, 100);
+
+    // the second event reached the broker, so marking it PENDING would only publish it twice
+    verify(repository).updateStatus(List.of(secondOfAccount.getId()), OutboxEventStatus.SENT);
+    verify(repository)
+        .recordFailure(
+            eq(firstOfAccount.getId()),
+            eq(1),
+            any(Instant.class),
+            contains("Kafka unavailable"),
+            eq(OutboxEventStatus.PENDING));
+  }
+
+  @Test
+  void shouldOnlySweepEventsOlderThanGraceWhenDirectPublishIsEnabled() {
+    var sweepingRelay =
+        new OutboxRelay(
+            repository,
+            publisher,
+            new OutboxRetryPolicy(3, 1000, 60000),
+            metrics,
+            1000,
+            true,
+            5000);
+    var claimBefore = ArgumentCaptor.forClass(Instant.class);
+
+    sweepingRelay.relayBatch(0, 1, 100);
+
+    verify(repository).claimPendingEvents(eq(0), eq(1), eq(100), claimBefore.capture());
+    assertThat(claimBefore.getValue()).isBefore(Instant.now().minusSeconds(4));
+  }
+
+  @Test
+  void shouldForwardStoredPayloadToTheEventOwnTopic() {
+    var outboxEventEntity =
+        new OutboxEventEntity(
+            UUID.randomUUID(),
+            "accounts.updated",
+            "account-42",
+            "{\"accountId\":\"account-42\"}",
+            OutboxEventStatus.PENDING,
+            Instant.now());
+
+    when(repository.claimPendingEvents(eq(0), eq(1), eq(100), any()))
+        .thenReturn(List.of(outboxEventEntity));
+    when(publisher.publish(any(), any(), any()))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    relay.relayBatch(0, 1, 100);
+
+    verify(publisher)
+        .publish(
+            eq("accounts.updated"),
+            eq("account-42"),
+            aryEq("{\"accountId\":\"account-42\"}".getBytes(StandardCharsets.UTF_8)));
+    verify(repository).updateStatus(List.of(outboxEventEntity.getId()), OutboxEventStatus.SENT);
+  }
+
+  private OutboxEventEntity pendingEvent(final String externalReference) {
+    return pendingEvent(externalReference, externalReference);
+  }
+
+  private OutboxEventEntity pendingEvent(final String key, final String externalReference) {
+    var transactionCreatedEvent =
+        new TransactionCreatedEvent(
+            UUID.randomUUID(),
+            BigDecimal.valueOf(100),
+            Currency.BRL,
+            ACCOUNT_ID,
+            TransactionType.CREDIT,
+            Instant.parse(CREATED_AT),
+            Instant.parse(OCCURRED_AT),
+            externalReference);
+
+    return new OutboxEventEntity(
+        UUID.randomUUID(),
+        "transactions.created",
+        key,
+        objectMapper.writeValueAsString(transactionCreatedEvent),
+        OutboxEventStatus.PENDING,
+        Instant.now());
+  }
+}
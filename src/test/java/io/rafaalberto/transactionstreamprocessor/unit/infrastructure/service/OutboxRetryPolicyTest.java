@@ -0,0 +1,33 @@
+package io.rafaalberto.transactionstreamprocessor.unit.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.rafaalberto.transactionstreamprocessor.infrastructure.scheduler.OutboxRetryPolicy;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class OutboxRetryPolicyTest {
+
+  private static final Instant NOW = Instant.parse("2025-03-23T11:00:00Z");
+
+  private final OutboxRetryPolicy retryPolicy = new OutboxRetryPolicy(5, 1000, 10000);
+
+  @Test
+  void shouldDoubleDelayOnEveryAttempt() {
+    assertThat(retryPolicy.nextAttemptAt(1, NOW)).isEqualTo(NOW.plusSeconds(1));
+    assertThat(retryPolicy.nextAttemptAt(2, NOW)).isEqualTo(NOW.plusSeconds(2));
+    assertThat(retryPolicy.nextAttemptAt(3, NOW)).isEqualTo(NOW.plusSeconds(4));
+  }
+
+  @Test
+  void shouldCapDelayAtMaximum() {
+    assertThat(retryPolicy.nextAttemptAt(5, NOW)).isEqualTo(NOW.plusSeconds(10));
+    assertThat(retryPolicy.nextAttemptAt(64, NOW)).isEqualTo(NOW.plusSeconds(10));
+  }
+
+  @Test
+  void shouldBeExhaustedOnceMaxAttemptsIsReached() {
+    assertThat(retryPolicy.isExhausted(4)).isFalse();
+    assertThat(retryPolicy.isExhausted(5)).isTrue();
+  }
+}
@@ -1,172 +1,95 @@
 package io.rafaalberto.transactionstreamprocessor.unit.infrastructure.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.argThat;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import io.rafaalberto.transactionstreamprocessor.application.events.TransactionCreatedEvent;
-import io.rafaalberto.transactionstreamprocessor.domain.transaction.Currency;
-import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionType;
-import io.rafaalberto.transactionstreamprocessor.infrastructure.messaging.publisher.KafkaTransactionEventPublisher;
-import io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox.OutboxEventEntity;
-import io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox.OutboxEventJpaRepository;
-import io.rafaalberto.transactionstreamprocessor.infrastructure.persistence.jpa.outbox.OutboxEventStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.scheduler.OutboxRelay;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.scheduler.OutboxRelayController;
 import io.rafaalberto.transactionstreamprocessor.infrastructure.scheduler.OutboxScheduler;
-import java.math.BigDecimal;
-import java.time.Instant;
-import java.util.Collections;
-import java.util.List;
-import java.util.UUID;
+import java.util.OptionalInt;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import tools.jackson.databind.ObjectMapper;
 
 class OutboxSchedulerTest {
 
-  private static final UUID ACCOUNT_ID = UUID.randomUUID();
+  private final OutboxRelay relay = mock(OutboxRelay.class);
 
-  private static final String CREATED_AT = "2025-03-23T11:00:00Z";
-
-  private static final String OCCURRED_AT = "2025-03-23T11:00:01Z";
-
-  private final OutboxEventJpaRepository repository = mock(OutboxEventJpaRepository.class);
-
-  private final KafkaTransactionEventPublisher publisher =
-      mock(KafkaTransactionEventPublisher.class);
-
-  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final OutboxRelayController controller =
+      new OutboxRelayController(100, 10, 1000, 0, 10000, new SimpleMeterRegistry());
 
   private final OutboxScheduler scheduler =
-      new OutboxScheduler(repository, publisher, objectMapper);
+      new OutboxScheduler(relay, controller, Runnable::run, 2, 6);
 
-  @Test
-  void shouldPublishPendingEventAndMarkAsSent() {
-    var event =
-        new TransactionCreatedEvent(
-            UUID.randomUUID(),
-            BigDecimal.valueOf(100),
-            Currency.BRL,
-            ACCOUNT_ID,
-            TransactionType.CREDIT,
-            Instant.parse(CREATED_AT),
-            Instant.parse(OCCURRED_AT),
-            "ext-ref-123");
-
-    var outboxEventEntity =
-        new OutboxEventEntity(
-            UUID.randomUUID(),
-            "transactions.created",
-            objectMapper.writeValueAsString(event),
-            OutboxEventStatus.PENDING,
-            Instant.now());
-
-    when(repository.findPendingEvents(OutboxEventStatus.PENDING))
-        .thenReturn(List.of(outboxEventEntity));
+  @BeforeEach
+  void setup() {
+    when(relay.relayBatch(anyInt(), anyInt(), anyInt())).thenReturn(OptionalInt.of(0));
+  }
 
+  @Test
+  void shouldVisitEveryClusterLaneWhateverTheWorkerCount() {
     scheduler.relay();
 
-    verify(publisher).publish(argThat(e -> e.externalReference().equals("ext-ref-123")));
-    verify(repository).save(argThat(e -> e.getStatus() == OutboxEventStatus.SENT));
+    for (var lane = 0; lane < 6; lane++) {
+      verify(relay).relayBatch(lane, 6, 100);
+    }
   }
 
   @Test
-  void shouldNotPublishWhenNoPendingEvents() {
-    when(repository.findPendingEvents(OutboxEventStatus.PENDING))
-        .thenReturn(Collections.emptyList());
+  void shouldGrowBatchWhenEveryLaneFilledItsBatch() {
+    when(relay.relayBatch(anyInt(), anyInt(), anyInt())).thenReturn(OptionalInt.of(100));
 
     scheduler.relay();
 
-    verify(publisher, never()).publish(any());
-    verify(repository, never()).save(any());
+    assertThat(controller.batchSize()).isEqualTo(200);
   }
 
   @Test
-  void shouldKeepEventAsPendingWhenPublishFails() {
-    var transactionCreatedEvent =
-        new TransactionCreatedEvent(
-            UUID.randomUUID(),
-            BigDecimal.valueOf(100),
-            Currency.BRL,
-            ACCOUNT_ID,
-            TransactionType.CREDIT,
-            Instant.parse(CREATED_AT),
-            Instant.parse(OCCURRED_AT),
-            "ext-ref-456");
-
-    var outboxEventEntity =
-        new OutboxEventEntity(
-            UUID.randomUUID(),
-            "transactions.created",
-            objectMapper.writeValueAsString(transactionCreatedEvent),
-            OutboxEventStatus.PENDING,
-            Instant.now());
-
-    when(repository.findPendingEvents(OutboxEventStatus.PENDING))
-        .thenReturn(List.of(outboxEventEntity));
-    doThrow(new RuntimeException("Kafka unavailable")).when(publisher).publish(any());
-
-    scheduler.relay();
-
-    verify(publisher).publish(any());
-    verify(repository, never()).save(any());
-    assertThat(outboxEventEntity.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+  void shouldRunOnePassAtATimeAndRepeatItForACallMadeWhileItRan() throws Exception {
+    var firstLaneStarted = new CountDownLatch(1);
+    var releaseFirstLane = new CountDownLatch(1);
+    var concurrent = new AtomicInteger();
+    var maxConcurrent = new AtomicInteger();
+    when(relay.relayBatch(anyInt(), anyInt(), anyInt()))
+        .thenAnswer(
+            invocation -> {
+              maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+              firstLaneStarted.countDown();
+              releaseFirstLane.await();
+              concurrent.decrementAndGet();
+              return OptionalInt.of(0);
+            });
+    var singleWorker = new OutboxScheduler(relay, controller, Runnable::run, 1, 6);
+
+    try (var executor = Executors.newSingleThreadExecutor()) {
+      var scheduled = executor.submit(singleWorker::relay);
+      firstLaneStarted.await();
+
+      singleWorker.relay();
+      releaseFirstLane.countDown();
+      scheduled.get();
+    }
+
+    assertThat(maxConcurrent).hasValue(1);
+    verify(relay, times(12)).relayBatch(anyInt(), eq(6), eq(100));
   }
 
   @Test
-  void shouldContinueProcessingWhenOneEventFails() {
-    var transactionCreatedEvent1 =
-        new TransactionCreatedEvent(
-            UUID.randomUUID(),
-            BigDecimal.valueOf(100),
-            Currency.BRL,
-            ACCOUNT_ID,
-            TransactionType.CREDIT,
-            Instant.parse(CREATED_AT),
-            Instant.parse(OCCURRED_AT),
-            "ext-ref-fail");
-
-    var transactionCreatedEvent2 =
-        new TransactionCreatedEvent(
-            UUID.randomUUID(),
-            BigDecimal.valueOf(200),
-            Currency.USD,
-            ACCOUNT_ID,
-            TransactionType.DEBIT,
-            Instant.parse(CREATED_AT),
-            Instant.parse(OCCURRED_AT),
-            "ext-ref-success");
-
-    var outboxEntity1 =
-        new OutboxEventEntity(
-            UUID.randomUUID(),
-            "transactions.created",
-            objectMapper.writeValueAsString(transactionCreatedEvent1),
-            OutboxEventStatus.PENDING,
-            Instant.now());
-
-    var outboxEntity2 =
-        new OutboxEventEntity(
-            UUID.randomUUID(),
-            "transactions.created",
-            objectMapper.writeValueAsString(transactionCreatedEvent2),
-            OutboxEventStatus.PENDING,
-            Instant.now());
-
-    when(repository.findPendingEvents(OutboxEventStatus.PENDING))
-        .thenReturn(List.of(outboxEntity1, outboxEntity2));
-
-    doThrow(new RuntimeException("Kafka unavailable"))
-        .when(publisher)
-        .publish(argThat(e -> e.externalReference().equals("ext-ref-fail")));
+  void shouldGrowBatchWhenEveryLaneItCouldLockFilledItsBatch() {
+    when(relay.relayBatch(anyInt(), anyInt(), anyInt())).thenReturn(OptionalInt.of(100));
+    when(relay.relayBatch(eq(0), anyInt(), anyInt())).thenReturn(OptionalInt.empty());
+    when(relay.relayBatch(eq(1), anyInt(), anyInt())).thenReturn(OptionalInt.empty());
 
     scheduler.relay();
 
-    assertThat(outboxEntity1.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
-    assertThat(outboxEntity2.getStatus()).isEqualTo(OutboxEventStatus.SENT);
-    verify(repository).save(outboxEntity2);
+    assertThat(controller.batchSize()).isEqualTo(200);
   }
 }
@@ -0,0 +1,185 @@
+package io.rafaalberto.transactionstreamprocessor.unit.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.rafaalberto.transactionstreamprocessor.application.usecases.CreateTransactionCommand;
+import io.rafaalberto.transactionstreamprocessor.application.usecases.CreateTransactionResult;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.AccountID;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Currency;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Money;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.Transaction;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.TransactionType;
+import io.rafaalberto.transactionstreamprocessor.domain.transaction.exception.InvalidTransactionException;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.service.CreateTransactionBatchService;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.service.CreateTransactionService;
+import io.rafaalberto.transactionstreamprocessor.infrastructure.service.TransactionGroupCommitter;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class TransactionGroupCommitterTest {
+
+  private static final Instant OCCURRED_AT = Instant.parse("2025-03-23T11:00:00Z");
+  private static final UUID ACCOUNT_ID = UUID.randomUUID();
+  private static final int CALLERS = 20;
+  private static final long SUBMIT_TIMEOUT_MS = 500;
+
+  private final CreateTransactionBatchService batchService =
+      mock(CreateTransactionBatchService.class);
+  private final CreateTransactionService singleService = mock(CreateTransactionService.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final TransactionGroupCommitter committer =
+      new TransactionGroupCommitter(
+          batchService, singleService, meterRegistry, 50, 50, 100, SUBMIT_TIMEOUT_MS);
+
+  @AfterEach
+  void tearDown() {
+    committer.stop();
+  }
+
+  @Test
+  void shouldCommitConcurrentCallersTogetherAndAnswerEachOne() throws Exception {
+    when(batchService.execute(any()))
+        .thenAnswer(
+            invocation ->
+                invocation.<List<CreateTransactionCommand>>getArgument(0).stream()
+                    .map(command -> CreateTransactionResult.created(transaction(command)))
+                    .toList());
+    committer.start();
+
+    var ready = new CountDownLatch(1);
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var futures =
+          IntStream.range(0, CALLERS)
+              .mapToObj(
+                  index ->
+                      executor.submit(
+                          () -> {
+                            ready.await();
+                            return committer.submit(command("settlement-" + index));
+                          }))
+              .toList();
+      ready.countDown();
+
+      for (var index = 0; index < CALLERS; index++) {
+        assertThat(futures.get(index).get().externalReference()).isEqualTo("settlement-" + index);
+      }
+    }
+
+    verify(batchService, atMost(CALLERS / 2)).execute(any());
+    verify(singleService, never()).execute(any());
+    assertThat(meterRegistry.get("transactions.group-commit.size").summary().totalAmount())
+        .isEqualTo(CALLERS);
+  }
+
+  @Test
+  void shouldThrowInvalidTransactionToTheCallerWhoseItemWasRejected() {
+    when(batchService.execute(any()))
+        .thenReturn(
+            List.of(
+                CreateTransactionResult.rejected(
+                    "settlement-1", "Money amount must be greater than zero")));
+    committer.start();
+
+    assertThatThrownBy(() -> committer.submit(command("settlement-1")))
+        .isInstanceOf(InvalidTransactionException.class)
+        .hasMessage("Money amount must be greater than zero");
+  }
+
+  @Test
+  void shouldRetryEachCallerAloneWhenTheGroupCommitFails() {
+    var command = command("settlement-1");
+    var transaction = transaction(command);
+    when(batchService.execute(any())).thenThrow(new IllegalStateException("database unavailable"));
+    when(singleService.execute(command)).thenReturn(transaction);
+    committer.start();
+
+    assertThat(committer.submit(command)).isSameAs(transaction);
+    verify(singleService, times(1)).execute(command);
+  }
+
+  @Test
+  void shouldRunInItsOwnTransactionWhenTheWriterIsNotRunning() {
+    var command = command("settlement-1");
+    var transaction = transaction(command);
+    when(singleService.execute(command)).thenReturn(transaction);
+
+    assertThat(committer.submit(command)).isSameAs(transaction);
+    verify(batchService, never()).execute(any());
+  }
+
+  @Test
+  void shouldCreateAloneWhenTheGroupDoesNotCommitInTime() throws Exception {
+    var command = command("settlement-1");
+    var transaction = transaction(command);
+    var release = new CountDownLatch(1);
+    when(batchService.execute(any()))
+        .thenAnswer(
+            invocation -> {
+              release.await(5, TimeUnit.SECONDS);
+              return List.of(CreateTransactionResult.created(transaction));
+            });
+    when(singleService.execute(command)).thenReturn(transaction);
+    committer.start();
+
+    try {
+      assertThat(committer.submit(command)).isSameAs(transaction);
+      verify(singleService).execute(command);
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  void shouldFailOnlyTheGroupHitByAnErrorAndKeepCommitting() {
+    when(batchService.execute(any()))
+        .thenThrow(new OutOfMemoryError("Java heap space"))
+        .thenAnswer(
+            invocation ->
+                invocation.<List<CreateTransactionCommand>>getArgument(0).stream()
+                    .map(command -> CreateTransactionResult.created(transaction(command)))
+                    .toList());
+    committer.start();
+
+    assertThatThrownBy(() -> committer.submit(command("settlement-1")))
+        .isInstanceOf(OutOfMemoryError.class);
+    assertThat(committer.submit(command("settlement-2")).externalReference())
+        .isEqualTo("settlement-2");
+    verify(singleService, never()).execute(any());
+  }
+
+  private static CreateTransactionCommand command(final String externalReference) {
+    return new CreateTransactionCommand(
+        BigDecimal.TEN,
+        Currency.BRL,
+        TransactionType.CREDIT,
+        ACCOUNT_ID,
+        OCCURRED_AT,
+        externalReference);
+  }
+
+  private static Transaction transaction(final CreateTransactionCommand command) {
+    return Transaction.create(
+        new Money(command.amount(), command.currency()),
+        command.type(),
+        new AccountID(command.accountId()),
+        command.occurredAt(),
+        command.externalReference());
+  }
+}